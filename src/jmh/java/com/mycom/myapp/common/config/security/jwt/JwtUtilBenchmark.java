@@ -0,0 +1,53 @@
+package com.mycom.myapp.common.config.security.jwt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * JwtUtil 토큰 발급/검증
+ * - verifiedCacheSize=0 이면 매번 서명 검증 + 파싱, 10000 이면 검증 캐시 hit
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    @Param({"0", "10000"})
+    int verifiedCacheSize;
+
+    JwtUtil jwtUtil;
+    String accessToken;
+
+    @Setup
+    public void setup() {
+        jwtUtil = new JwtUtil(SECRET, verifiedCacheSize);
+        ReflectionTestUtils.setField(jwtUtil, "issuer", "mycom");
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenExpirationTime", 3600L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshExpirationTime", 1209600L);
+
+        accessToken = jwtUtil.createAccessToken(1L, "USER");
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtUtil.createAccessToken(1L, "USER");
+    }
+
+    @Benchmark
+    public Claims parse() {
+        return jwtUtil.parse(accessToken);
+    }
+}
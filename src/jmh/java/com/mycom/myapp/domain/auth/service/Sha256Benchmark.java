@@ -0,0 +1,29 @@
+package com.mycom.myapp.domain.auth.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 리프레시 토큰 해시 (RefreshTokenHasher.hash)
+ * - 실제 리프레시 토큰 길이와 비슷한 JWT 문자열 사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class Sha256Benchmark {
+
+    String refreshToken = "eyJhbGciOiJIUzI1NiJ9."
+            + "eyJpc3MiOiJteWNvbSIsInN1YiI6IjEiLCJ0eXAiOiJyZWZyZXNoIiwianRpIjoiM2Y1YjJkN2EtOWMxZS00YjJhLThkNmYtMWEyYjNjNGQ1ZTZmIiwiaWF0IjoxNzAwMDAwMDAwLCJleHAiOjE3MDEyMDk2MDB9."
+            + "c2lnbmF0dXJlLXNpZ25hdHVyZS1zaWduYXR1cmUtc2lnbmE";
+
+    @Benchmark
+    public String sha256() {
+        return RefreshTokenHasher.hash(refreshToken);
+    }
+}
@@ -0,0 +1,76 @@
+package com.mycom.myapp.domain.schedule.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.mycom.myapp.domain.participation.entity.ParticipationStatus;
+import com.mycom.myapp.domain.participation.entity.ScheduleParticipation;
+import com.mycom.myapp.domain.schedule.entity.Schedule;
+import com.mycom.myapp.domain.schedule.entity.ScheduleStatus;
+import com.mycom.myapp.domain.schedule_extras.entity.ScheduleAttachment;
+import com.mycom.myapp.domain.schedule_extras.entity.ScheduleComment;
+import com.mycom.myapp.domain.schedule_extras.entity.enums.FileType;
+import com.mycom.myapp.domain.user.entity.User;
+
+// 벤치마크용 일정/댓글 픽스처 (DB 없이 메모리에서만 생성)
+final class ScheduleFixtures {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private ScheduleFixtures() {
+    }
+
+    static Schedule schedule(long id, int participants, int attachments) {
+        User owner = user(1L);
+        Schedule schedule = Schedule.builder()
+                .id(id)
+                .title("일정 " + id)
+                .description("벤치마크용 일정 설명입니다.")
+                .owner(owner)
+                .startAt(BASE.plusHours(id))
+                .endAt(BASE.plusHours(id + 2))
+                .placeName("회의실 A")
+                .status(ScheduleStatus.CONFIRMED)
+                .build();
+
+        for (long u = 1; u <= participants; u++) {
+            schedule.addParticipation(ScheduleParticipation.builder()
+                    .id(u)
+                    .user(u == 1 ? owner : user(u))
+                    .status(u % 3 == 0 ? ParticipationStatus.DECLINED : ParticipationStatus.ACCEPTED)
+                    .build());
+        }
+
+        for (long a = 1; a <= attachments; a++) {
+            schedule.addAttachment(ScheduleAttachment.builder()
+                    .id(a)
+                    .fileType(a % 2 == 0 ? FileType.IMAGE : FileType.FILE)
+                    .fileUrl("https://storage.googleapis.com/bucket/file-" + a)
+                    .originalName("file-" + a + ".png")
+                    .fileSize(1024L * a)
+                    .contentType("image/png")
+                    .createdAt(BASE)
+                    .build());
+        }
+        return schedule;
+    }
+
+    static List<ScheduleComment> comments(Schedule schedule, int count) {
+        List<ScheduleComment> comments = new ArrayList<>(count);
+        for (long c = 1; c <= count; c++) {
+            comments.add(ScheduleComment.builder()
+                    .id(c)
+                    .schedule(schedule)
+                    .user(user(c))
+                    .content("댓글 " + c)
+                    .createdAt(BASE.plusMinutes(c))
+                    .build());
+        }
+        return comments;
+    }
+
+    private static User user(long id) {
+        return User.builder().id(id).name("user" + id).email("user" + id + "@mycom.com").build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.mycom.myapp.domain.schedule.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * 일정 목록 JSON 직렬화 (달력 조회 응답 크기)
+ * - ObjectMapper 설정은 Spring Boot 기본값과 동일하게 (JavaTimeModule, 날짜 ISO 문자열)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ScheduleJsonBenchmark {
+
+    @Param({"100", "1000"})
+    int size;
+
+    ObjectMapper objectMapper;
+    List<ScheduleResponseDto> schedules;
+
+    @Setup
+    public void setup() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        schedules = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            schedules.add(ScheduleResponseDto.fromEntity(ScheduleFixtures.schedule(id, 0, 0)));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(schedules);
+    }
+}
@@ -0,0 +1,43 @@
+package com.mycom.myapp.domain.schedule.dto;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.mycom.myapp.domain.schedule.entity.Schedule;
+import com.mycom.myapp.domain.schedule_extras.entity.ScheduleComment;
+
+/**
+ * 상세 DTO 변환 (ScheduleResponseDto.fromEntityWithDetails)
+ * - 참여자 수에 따른 매핑 비용 (댓글은 상세 첫 페이지 크기 20개)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScheduleResponseDtoBenchmark {
+
+    @Param({"10", "200"})
+    int participants;
+
+    Schedule schedule;
+    List<ScheduleComment> comments;
+
+    @Setup
+    public void setup() {
+        schedule = ScheduleFixtures.schedule(1L, participants, 5);
+        comments = ScheduleFixtures.comments(schedule, 20);
+    }
+
+    @Benchmark
+    public ScheduleResponseDto fromEntityWithDetails() {
+        return ScheduleResponseDto.fromEntityWithDetails(schedule, comments, "cursor");
+    }
+}
@@ -0,0 +1,77 @@
+package com.mycom.myapp.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시나리오별 응답 시간/에러 수집 후 p50/p99/처리량 리포트
+ */
+class LatencyRecorder {
+
+    private final Map<String, ConcurrentLinkedQueue<Long>> latencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    void record(String scenario, long elapsedNanos, boolean success) {
+        latencies.computeIfAbsent(scenario, k -> new ConcurrentLinkedQueue<>()).add(elapsedNanos);
+        if (!success) {
+            errors.computeIfAbsent(scenario, k -> new LongAdder()).increment();
+        }
+    }
+
+    record Summary(String scenario, long count, long errors, double p50Ms, double p99Ms, double maxMs, double throughput) {
+    }
+
+    List<Summary> summarize(double elapsedSeconds) {
+        List<Summary> result = new ArrayList<>();
+        latencies.keySet().stream().sorted().forEach(scenario -> {
+            long[] sorted = latencies.get(scenario).stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            long errorCount = errors.getOrDefault(scenario, new LongAdder()).sum();
+            result.add(new Summary(
+                    scenario,
+                    sorted.length,
+                    errorCount,
+                    percentileMs(sorted, 0.50),
+                    percentileMs(sorted, 0.99),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0,
+                    sorted.length / elapsedSeconds
+            ));
+        });
+        return result;
+    }
+
+    long totalCount() {
+        return latencies.values().stream().mapToLong(ConcurrentLinkedQueue::size).sum();
+    }
+
+    long totalErrors() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    String report(double elapsedSeconds) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-16s %8s %7s %10s %10s %10s %10s%n",
+                "scenario", "count", "errors", "p50(ms)", "p99(ms)", "max(ms)", "req/s"));
+        for (Summary s : summarize(elapsedSeconds)) {
+            sb.append(String.format("%-16s %8d %7d %10.2f %10.2f %10.2f %10.1f%n",
+                    s.scenario(), s.count(), s.errors(), s.p50Ms(), s.p99Ms(), s.maxMs(), s.throughput()));
+        }
+        sb.append(String.format("total %d requests, %d errors, %.1f req/s%n",
+                totalCount(), totalErrors(), totalCount() / elapsedSeconds));
+        return sb.toString();
+    }
+
+    // nearest-rank 방식
+    private static double percentileMs(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(p * sorted.length);
+        return sorted[Math.max(rank - 1, 0)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,170 @@
+package com.mycom.myapp.loadtest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mycom.myapp.domain.group.GroupMemberRole;
+import com.mycom.myapp.domain.group.entity.Group;
+import com.mycom.myapp.domain.group.entity.GroupMember;
+import com.mycom.myapp.domain.group.repository.GroupMemberRepository;
+import com.mycom.myapp.domain.group.repository.GroupRepository;
+import com.mycom.myapp.domain.participation.entity.ParticipationStatus;
+import com.mycom.myapp.domain.participation.entity.ScheduleParticipation;
+import com.mycom.myapp.domain.schedule.entity.Schedule;
+import com.mycom.myapp.domain.schedule.entity.ScheduleStatus;
+import com.mycom.myapp.domain.schedule.repository.ScheduleRepository;
+import com.mycom.myapp.domain.schedule_extras.entity.ScheduleComment;
+import com.mycom.myapp.domain.schedule_extras.repository.ScheduleCommentRepository;
+import com.mycom.myapp.domain.user.UserRole;
+import com.mycom.myapp.domain.user.entity.User;
+import com.mycom.myapp.domain.user.repository.UserRepository;
+
+/**
+ * 부하 테스트용 데이터 생성
+ * - 유저 USERS 명, 그룹 GROUPS 개 (그룹당 MEMBERS_PER_GROUP 명, 인접 그룹끼리 일부 겹침)
+ * - 그룹마다 SCHEDULES_PER_GROUP 개 일정, 절반은 투표 중 (멤버 전원 INVITED 로 참여 행 생성)
+ * - 일정마다 COMMENTS_PER_SCHEDULE 개 댓글
+ */
+class LoadTestDataSeeder {
+
+    static final int USERS = 600;
+    static final int GROUPS = 3;
+    static final int MEMBERS_PER_GROUP = 200;
+    static final int MEMBER_OFFSET = 150;
+    static final int SCHEDULES_PER_GROUP = 60;
+    static final int COMMENTS_PER_SCHEDULE = 30;
+
+    private final UserRepository userRepository;
+    private final GroupRepository groupRepository;
+    private final GroupMemberRepository groupMemberRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleCommentRepository commentRepository;
+    private final TransactionTemplate tx;
+
+    LoadTestDataSeeder(UserRepository userRepository,
+                       GroupRepository groupRepository,
+                       GroupMemberRepository groupMemberRepository,
+                       ScheduleRepository scheduleRepository,
+                       ScheduleCommentRepository commentRepository,
+                       TransactionTemplate tx) {
+        this.userRepository = userRepository;
+        this.groupRepository = groupRepository;
+        this.groupMemberRepository = groupMemberRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.commentRepository = commentRepository;
+        this.tx = tx;
+    }
+
+    record SeededGroup(Long groupId, List<Long> memberIds, List<Long> votingScheduleIds, List<Long> scheduleIds) {
+    }
+
+    record SeedData(List<Long> userIds, List<SeededGroup> groups, LocalDateTime from, LocalDateTime to) {
+    }
+
+    SeedData seed() {
+        LocalDateTime from = LocalDateTime.now().toLocalDate().atStartOfDay().minusDays(14);
+        LocalDateTime to = from.plusDays(35);
+
+        List<User> users = tx.execute(status -> {
+            List<User> list = new ArrayList<>(USERS);
+            for (int i = 0; i < USERS; i++) {
+                list.add(User.builder()
+                        .email("load" + i + "@mycom.com")
+                        .passwordHash("{noop}password")
+                        .name("부하유저" + i)
+                        .role(UserRole.USER)
+                        .build());
+            }
+            return userRepository.saveAll(list);
+        });
+
+        List<SeededGroup> groups = new ArrayList<>(GROUPS);
+        for (int g = 0; g < GROUPS; g++) {
+            int groupIndex = g;
+            groups.add(tx.execute(status -> seedGroup(groupIndex, users, from)));
+        }
+
+        return new SeedData(users.stream().map(User::getId).toList(), groups, from, to);
+    }
+
+    private SeededGroup seedGroup(int g, List<User> users, LocalDateTime from) {
+        List<User> members = new ArrayList<>(MEMBERS_PER_GROUP);
+        for (int i = 0; i < MEMBERS_PER_GROUP; i++) {
+            members.add(users.get((g * MEMBER_OFFSET + i) % users.size()));
+        }
+        User owner = members.get(0);
+
+        Group group = groupRepository.save(Group.builder()
+                .name("부하그룹" + g)
+                .description("부하 테스트 그룹")
+                .owner(owner)
+                .build());
+
+        List<GroupMember> groupMembers = new ArrayList<>(members.size());
+        for (User member : members) {
+            groupMembers.add(GroupMember.builder()
+                    .group(group)
+                    .user(member)
+                    .role(member == owner ? GroupMemberRole.OWNER : GroupMemberRole.MEMBER)
+                    .build());
+        }
+        groupMemberRepository.saveAll(groupMembers);
+
+        List<Long> scheduleIds = new ArrayList<>(SCHEDULES_PER_GROUP);
+        List<Long> votingScheduleIds = new ArrayList<>();
+        for (int s = 0; s < SCHEDULES_PER_GROUP; s++) {
+            boolean voting = s % 2 == 0;
+            LocalDateTime startAt = from.plusHours(g + s * 12L);
+
+            Schedule schedule = Schedule.builder()
+                    .title("그룹" + g + " 일정" + s)
+                    .description("부하 테스트 일정")
+                    .owner(owner)
+                    .group(group)
+                    .startAt(startAt)
+                    .endAt(startAt.plusHours(2))
+                    .placeName("회의실")
+                    .status(voting ? ScheduleStatus.VOTING : ScheduleStatus.CONFIRMED)
+                    .voteDeadlineAt(voting ? LocalDateTime.now().plusDays(7) : null)
+                    .minParticipants(voting ? 5 : null)
+                    .build();
+
+            for (User member : members) {
+                if (!voting && member != owner) {
+                    continue;
+                }
+                schedule.addParticipation(ScheduleParticipation.builder()
+                        .user(member)
+                        .status(member == owner ? ParticipationStatus.ACCEPTED : ParticipationStatus.INVITED)
+                        .build());
+            }
+            schedule.initParticipationCounts();
+            Schedule saved = scheduleRepository.save(schedule);
+
+            List<ScheduleComment> comments = new ArrayList<>(COMMENTS_PER_SCHEDULE);
+            for (int c = 0; c < COMMENTS_PER_SCHEDULE; c++) {
+                comments.add(ScheduleComment.builder()
+                        .schedule(saved)
+                        .user(members.get(c % members.size()))
+                        .content("댓글 " + c)
+                        .build());
+            }
+            commentRepository.saveAll(comments);
+
+            scheduleIds.add(saved.getId());
+            if (voting) {
+                votingScheduleIds.add(saved.getId());
+            }
+        }
+
+        return new SeededGroup(
+                group.getId(),
+                members.stream().map(User::getId).toList(),
+                votingScheduleIds,
+                scheduleIds
+        );
+    }
+}
@@ -0,0 +1,102 @@
+package com.mycom.myapp.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.mycom.myapp.common.config.security.jwt.JwtUtil;
+
+/**
+ * 부하 테스트용 HTTP 클라이언트
+ * - 유저별 액세스 토큰을 JwtUtil 로 직접 발급 (로그인 API 대신, 유저당 한 번만)
+ * - 요청마다 응답 시간을 LatencyRecorder 에 기록
+ */
+class LoadTestHttpClient implements AutoCloseable {
+
+    private final int port;
+    private final JwtUtil jwtUtil;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient http;
+    private final Map<Long, String> tokens = new ConcurrentHashMap<>();
+
+    LoadTestHttpClient(int port, JwtUtil jwtUtil) {
+        this.port = port;
+        this.jwtUtil = jwtUtil;
+        this.http = HttpClient.newBuilder()
+                .executor(executor)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET();
+    }
+
+    HttpRequest.Builder postJson(String path, String json) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    // multipart/form-data 파일 1개 + 텍스트 필드
+    HttpRequest.Builder postMultipart(String path, String fileName, byte[] content, Map<String, String> fields) {
+        String boundary = "----loadtest" + UUID.randomUUID();
+        StringBuilder head = new StringBuilder();
+        fields.forEach((name, value) -> head
+                .append("--").append(boundary).append("\r\n")
+                .append("Content-Disposition: form-data; name=\"").append(name).append("\"\r\n\r\n")
+                .append(value).append("\r\n"));
+        head.append("--").append(boundary).append("\r\n")
+                .append("Content-Disposition: form-data; name=\"file\"; filename=\"").append(fileName).append("\"\r\n")
+                .append("Content-Type: application/octet-stream\r\n\r\n");
+        byte[] tail = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8);
+
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.concat(
+                        HttpRequest.BodyPublishers.ofString(head.toString()),
+                        HttpRequest.BodyPublishers.ofByteArray(content),
+                        HttpRequest.BodyPublishers.ofByteArray(tail)));
+    }
+
+    HttpResponse<String> send(LatencyRecorder recorder, String scenario, Long userId, HttpRequest.Builder request) {
+        HttpRequest httpRequest = request
+                .header("Authorization", "Bearer " + token(userId))
+                .timeout(Duration.ofSeconds(30))
+                .build();
+
+        long started = System.nanoTime();
+        try {
+            HttpResponse<String> response = http.send(httpRequest, HttpResponse.BodyHandlers.ofString());
+            recorder.record(scenario, System.nanoTime() - started, response.statusCode() < 400);
+            return response;
+        } catch (Exception e) {
+            recorder.record(scenario, System.nanoTime() - started, false);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private String token(Long userId) {
+        return tokens.computeIfAbsent(userId, id -> jwtUtil.createAccessToken(id, "USER"));
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
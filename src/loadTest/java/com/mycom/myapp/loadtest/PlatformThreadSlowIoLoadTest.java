@@ -0,0 +1,14 @@
+package com.mycom.myapp.loadtest;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {SlowIoLoadTestSupport.COMMON_PROPERTIES, "spring.threads.virtual.enabled=false"}
+)
+@ActiveProfiles("loadtest")
+@Import(SlowIoConfig.class)
+class PlatformThreadSlowIoLoadTest extends SlowIoLoadTestSupport {
+}
@@ -0,0 +1,154 @@
+package com.mycom.myapp.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycom.myapp.common.config.security.jwt.JwtUtil;
+import com.mycom.myapp.domain.group.repository.GroupMemberRepository;
+import com.mycom.myapp.domain.group.repository.GroupRepository;
+import com.mycom.myapp.domain.schedule.repository.ScheduleRepository;
+import com.mycom.myapp.domain.schedule_extras.repository.ScheduleCommentRepository;
+import com.mycom.myapp.domain.user.repository.UserRepository;
+import com.mycom.myapp.loadtest.LoadTestDataSeeder.SeedData;
+import com.mycom.myapp.loadtest.LoadTestDataSeeder.SeededGroup;
+
+/**
+ * 달력 / 투표 / 댓글 시나리오 부하 테스트
+ * - H2 인메모리 DB(loadtest 프로필)로 앱을 띄우고 데이터를 채운 뒤 가상 유저 N명이 동시에 요청
+ * - 시나리오 비율: 달력 50%, 투표 30%, 댓글 20% (댓글은 조회 → 다음 페이지, 5번 중 1번은 작성)
+ * - 결과는 시나리오별 p50/p99/처리량으로 출력
+ *
+ * 설정 (-D 로 전달)
+ * - loadtest.users            가상 유저 수 (기본 50)
+ * - loadtest.duration-seconds 측정 시간 (기본 30)
+ * - loadtest.warmup-seconds   워밍업 시간, 결과에서 제외 (기본 5)
+ * - loadtest.max-error-rate   허용 에러율 (기본 0.01)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+class ScheduleLoadTest {
+
+    private static final int VIRTUAL_USERS = Integer.getInteger("loadtest.users", 50);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration-seconds", 30);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 5);
+    private static final double MAX_ERROR_RATE =
+            Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"));
+
+    @LocalServerPort
+    int port;
+
+    @Autowired JwtUtil jwtUtil;
+    @Autowired UserRepository userRepository;
+    @Autowired GroupRepository groupRepository;
+    @Autowired GroupMemberRepository groupMemberRepository;
+    @Autowired ScheduleRepository scheduleRepository;
+    @Autowired ScheduleCommentRepository commentRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private LoadTestHttpClient client;
+    private SeedData seed;
+
+    @Test
+    void calendarVoteCommentScenarios() throws Exception {
+        seed = new LoadTestDataSeeder(userRepository, groupRepository, groupMemberRepository,
+                scheduleRepository, commentRepository, new TransactionTemplate(transactionManager)).seed();
+
+        try (LoadTestHttpClient httpClient = new LoadTestHttpClient(port, jwtUtil)) {
+            client = httpClient;
+
+            VirtualUsers.run(VIRTUAL_USERS, WARMUP_SECONDS, () -> runOneScenario(new LatencyRecorder()));
+
+            LatencyRecorder recorder = new LatencyRecorder();
+            long started = System.nanoTime();
+            VirtualUsers.run(VIRTUAL_USERS, DURATION_SECONDS, () -> runOneScenario(recorder));
+            double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+            System.out.printf("%n[load test] %d virtual users, %ds%n%s%n",
+                    VIRTUAL_USERS, DURATION_SECONDS, recorder.report(elapsedSeconds));
+
+            assertThat(recorder.totalCount()).isPositive();
+            assertThat((double) recorder.totalErrors() / recorder.totalCount()).isLessThanOrEqualTo(MAX_ERROR_RATE);
+        }
+    }
+
+    private void runOneScenario(LatencyRecorder recorder) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        SeededGroup group = seed.groups().get(random.nextInt(seed.groups().size()));
+        Long userId = group.memberIds().get(random.nextInt(group.memberIds().size()));
+
+        int dice = random.nextInt(100);
+        if (dice < 50) {
+            calendar(recorder, userId);
+        } else if (dice < 80) {
+            vote(recorder, group, userId);
+        } else {
+            comments(recorder, group, userId);
+        }
+    }
+
+    // 달력: 내 일정(개인 + 소속 그룹) 한 달치
+    private void calendar(LatencyRecorder recorder, Long userId) {
+        LocalDateTime from = seed.from();
+        LocalDateTime to = from.plusMonths(1);
+        client.send(recorder, "calendar", userId, client.get(
+                "/my-schedules?currentUserId=" + userId + "&from=" + from + "&to=" + to));
+    }
+
+    // 투표: 투표 중인 그룹 일정에 참여/불참 후 요약 조회
+    private void vote(LatencyRecorder recorder, SeededGroup group, Long userId) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Long scheduleId = group.votingScheduleIds().get(random.nextInt(group.votingScheduleIds().size()));
+        String status = random.nextBoolean() ? "ACCEPTED" : "DECLINED";
+
+        client.send(recorder, "vote", userId, client.postJson(
+                "/group-schedules/" + scheduleId + "/participations?userId=" + userId,
+                "{\"status\":\"" + status + "\"}"));
+        client.send(recorder, "vote-summary", userId, client.get(
+                "/group-schedules/" + scheduleId + "/participations"));
+    }
+
+    // 댓글: 첫 페이지 → 다음 페이지, 5번 중 1번은 댓글 작성
+    private void comments(LatencyRecorder recorder, SeededGroup group, Long userId) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Long scheduleId = group.scheduleIds().get(random.nextInt(group.scheduleIds().size()));
+        String base = "/schedules/" + scheduleId + "/comments";
+
+        HttpResponse<String> first = client.send(recorder, "comment-page", userId, client.get(base + "/scroll?size=20"));
+        String nextCursor = nextCursor(first);
+        if (nextCursor != null) {
+            client.send(recorder, "comment-page", userId, client.get(base + "/scroll?size=20&cursor=" + nextCursor));
+        }
+
+        if (random.nextInt(5) == 0) {
+            client.send(recorder, "comment-write", userId, client.postJson(
+                    base + "?userId=" + userId, "{\"content\":\"부하 테스트 댓글\"}"));
+        }
+    }
+
+    private String nextCursor(HttpResponse<String> response) {
+        if (response == null || response.statusCode() != 200) {
+            return null;
+        }
+        try {
+            JsonNode node = objectMapper.readTree(response.body()).get("nextCursor");
+            return node == null || node.isNull() ? null : node.asText();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.mycom.myapp.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import com.mycom.myapp.common.config.storage.LocalStorageService;
+import com.mycom.myapp.common.config.storage.StorageService;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * 느린 DB / 느린 저장소 흉내
+ * - loadtest.db-latency-ms      : 쿼리마다 추가 지연 (원격 MySQL 왕복)
+ * - loadtest.storage-latency-ms : 업로드/다운로드마다 추가 지연 (GCS 왕복)
+ */
+@TestConfiguration
+class SlowIoConfig {
+
+    @Bean
+    static BeanPostProcessor slowDataSourcePostProcessor(Environment env) {
+        long latencyMs = env.getProperty("loadtest.db-latency-ms", Long.class, 0L);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (latencyMs > 0 && bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name("slow-db")
+                            .listener(new QueryExecutionListener() {
+                                @Override
+                                public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                                    sleep(latencyMs);
+                                }
+
+                                @Override
+                                public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                                }
+                            })
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @Primary
+    StorageService slowStorageService(LocalStorageService delegate,
+                                      @Value("${loadtest.storage-latency-ms:0}") long latencyMs) {
+        return new StorageService() {
+            @Override
+            public String uploadFile(String fileName, InputStream content, String contentType) throws IOException {
+                sleep(latencyMs);
+                return delegate.uploadFile(fileName, content, contentType);
+            }
+
+            @Override
+            public void deleteFile(String storagePath) {
+                sleep(latencyMs);
+                delegate.deleteFile(storagePath);
+            }
+
+            @Override
+            public String getPublicUrl(String fileName) {
+                return delegate.getPublicUrl(fileName);
+            }
+
+            @Override
+            public long transferTo(String storagePath, long position, long count, WritableByteChannel target)
+                    throws IOException {
+                sleep(latencyMs);
+                return delegate.transferTo(storagePath, position, count, target);
+            }
+        };
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.mycom.myapp.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mycom.myapp.common.config.security.jwt.JwtUtil;
+import com.mycom.myapp.domain.group.repository.GroupMemberRepository;
+import com.mycom.myapp.domain.group.repository.GroupRepository;
+import com.mycom.myapp.domain.schedule.repository.ScheduleRepository;
+import com.mycom.myapp.domain.schedule_extras.repository.ScheduleCommentRepository;
+import com.mycom.myapp.domain.user.repository.UserRepository;
+import com.mycom.myapp.loadtest.LoadTestDataSeeder.SeedData;
+import com.mycom.myapp.loadtest.LoadTestDataSeeder.SeededGroup;
+
+/**
+ * 느린 I/O 조건에서 플랫폼 스레드 / 가상 스레드 처리량 비교
+ * - 업로드(느린 저장소) 50%, 달력 조회(느린 DB) 50%
+ * - 플랫폼 모드는 Tomcat 스레드 수(server.tomcat.threads.max)가 동시 처리 상한
+ * - 하위 클래스가 spring.threads.virtual.enabled 만 다르게 지정 → 결과 표를 나란히 비교
+ *
+ * 설정 (-D 로 전달): loadtest.io-users (기본 200), loadtest.duration-seconds, loadtest.warmup-seconds
+ */
+abstract class SlowIoLoadTestSupport {
+
+    static final String COMMON_PROPERTIES = """
+            server.tomcat.threads.max=50
+            spring.datasource.hikari.maximum-pool-size=100
+            loadtest.db-latency-ms=5
+            loadtest.storage-latency-ms=200
+            """;
+
+    private static final int VIRTUAL_USERS = Integer.getInteger("loadtest.io-users", 200);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration-seconds", 30);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 5);
+    private static final int UPLOAD_SIZE = 64 * 1024;
+
+    @LocalServerPort
+    int port;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    boolean virtualThreads;
+
+    @Autowired JwtUtil jwtUtil;
+    @Autowired UserRepository userRepository;
+    @Autowired GroupRepository groupRepository;
+    @Autowired GroupMemberRepository groupMemberRepository;
+    @Autowired ScheduleRepository scheduleRepository;
+    @Autowired ScheduleCommentRepository commentRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    private LoadTestHttpClient client;
+    private SeedData seed;
+
+    @Test
+    void slowStorageAndSlowDb() throws Exception {
+        seed = new LoadTestDataSeeder(userRepository, groupRepository, groupMemberRepository,
+                scheduleRepository, commentRepository, new TransactionTemplate(transactionManager)).seed();
+
+        try (LoadTestHttpClient httpClient = new LoadTestHttpClient(port, jwtUtil)) {
+            client = httpClient;
+
+            VirtualUsers.run(VIRTUAL_USERS, WARMUP_SECONDS, () -> runOneScenario(new LatencyRecorder()));
+
+            LatencyRecorder recorder = new LatencyRecorder();
+            long started = System.nanoTime();
+            VirtualUsers.run(VIRTUAL_USERS, DURATION_SECONDS, () -> runOneScenario(recorder));
+            double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+            System.out.printf("%n[slow I/O] %s threads, %d virtual users, %ds%n%s%n",
+                    virtualThreads ? "virtual" : "platform", VIRTUAL_USERS, DURATION_SECONDS,
+                    recorder.report(elapsedSeconds));
+
+            assertThat(recorder.totalCount()).isPositive();
+        }
+    }
+
+    private void runOneScenario(LatencyRecorder recorder) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        SeededGroup group = seed.groups().get(random.nextInt(seed.groups().size()));
+        Long userId = group.memberIds().get(random.nextInt(group.memberIds().size()));
+
+        if (random.nextBoolean()) {
+            Long scheduleId = group.scheduleIds().get(random.nextInt(group.scheduleIds().size()));
+            // 매번 다른 내용 → 중복 제거로 저장소 업로드가 생략되지 않도록
+            byte[] content = new byte[UPLOAD_SIZE];
+            random.nextBytes(content);
+            client.send(recorder, "upload", userId, client.postMultipart(
+                    "/schedules/" + scheduleId + "/attachments?userId=" + userId,
+                    "loadtest.bin", content, Map.of("fileType", "FILE")));
+        } else {
+            LocalDateTime from = seed.from();
+            client.send(recorder, "calendar", userId, client.get(
+                    "/my-schedules?currentUserId=" + userId + "&from=" + from + "&to=" + from.plusMonths(1)));
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.mycom.myapp.loadtest;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// 가상 유저 N명이 seconds 동안 scenario 를 반복 (클라이언트 쪽은 가상 스레드라 유저 수를 늘려도 부담 없음)
+final class VirtualUsers {
+
+    private VirtualUsers() {
+    }
+
+    static void run(int users, int seconds, Runnable scenario) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users; i++) {
+                executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        scenario.run();
+                    }
+                });
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(seconds + 60L, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        }
+    }
+}
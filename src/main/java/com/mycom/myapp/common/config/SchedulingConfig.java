@@ -0,0 +1,10 @@
+package com.mycom.myapp.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업 활성화 (투표 마감 처리 등)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,9 +1,12 @@
 package com.mycom.myapp.common.config.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycom.myapp.common.config.security.hashing.BoundedPasswordEncoder;
 import com.mycom.myapp.common.config.security.jwt.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.MediaType;
@@ -35,9 +38,17 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    // BCrypt 는 전용 실행기에서만 (threads 개 동시 실행, queue-capacity 초과/timeout 시 503)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password-hashing.threads:0}") int threads,
+            @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password-hashing.timeout-ms:3000}") long timeoutMs,
+            MeterRegistry meterRegistry
+    ) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), poolSize, queueCapacity, timeoutMs,
+                meterRegistry);
     }
 
     @Bean
@@ -95,6 +106,9 @@ public class SecurityConfig {
                 )
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/error").permitAll()
+                        // health 만 공개, 나머지 actuator(prometheus 등 내부 지표)는 인증 필요
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").authenticated()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
                         .requestMatchers("/css/**").permitAll()
                         .requestMatchers("/js/**", "/pages/**", "/templates/**", "/.well-known/**").permitAll()
@@ -0,0 +1,120 @@
+package com.mycom.myapp.common.config.security.hashing;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+/**
+ * BCrypt 해싱/검증 전용 실행기
+ * - 일부러 느린 BCrypt 를 요청 스레드 대신 고정 크기 스레드에서만 실행 → 로그인 폭주가 CPU 를 다 먹지 않음
+ * - 대기열이 가득 차거나 timeout 안에 끝나지 않으면 바로 PasswordHashingRejectedException (503)
+ * - 지표: password.hashing (executor 활성/대기열/실행 시간), password.hashing.rejected (reason=queue_full|timeout)
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService executor;
+    private final long timeoutMs;
+    private final Counter rejectedQueueFull;
+    private final Counter rejectedTimeout;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long timeoutMs,
+                                  MeterRegistry registry) {
+        this(delegate, new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        ), timeoutMs, registry);
+    }
+
+    // 테스트에서 실행기를 직접 점유할 수 있도록 pool 을 받는 생성자
+    BoundedPasswordEncoder(PasswordEncoder delegate, ThreadPoolExecutor pool, long timeoutMs, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.timeoutMs = timeoutMs;
+        this.pool = pool;
+        this.executor = ExecutorServiceMetrics.monitor(registry, pool, "password.hashing");
+        this.rejectedQueueFull = rejectedCounter(registry, "queue_full");
+        this.rejectedTimeout = rejectedCounter(registry, "timeout");
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdown();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedQueueFull.increment();
+            throw new PasswordHashingRejectedException("인증 요청이 많아 잠시 후 다시 시도해 주세요.", e);
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedTimeout.increment();
+            throw new PasswordHashingRejectedException("인증 요청이 많아 잠시 후 다시 시도해 주세요.", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해싱 대기 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("비밀번호 해싱 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    private static Counter rejectedCounter(MeterRegistry registry, String reason) {
+        return Counter.builder("password.hashing.rejected")
+                .description("해싱 실행기가 포화되어 거절된 요청 수")
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger seq = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + seq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
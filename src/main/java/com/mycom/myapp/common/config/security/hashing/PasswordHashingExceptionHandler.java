@@ -0,0 +1,24 @@
+package com.mycom.myapp.common.config.security.hashing;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+
+// 로그인/회원가입 어디서 거절되든 같은 응답 (잠깐 뒤 재시도 유도)
+@RestControllerAdvice
+public class PasswordHashingExceptionHandler {
+
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<Map<String, Object>> handleRejected(PasswordHashingRejectedException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of(
+                        "message", ex.getMessage(),
+                        "code", "AUTH_HASHING_BUSY"
+                ));
+    }
+}
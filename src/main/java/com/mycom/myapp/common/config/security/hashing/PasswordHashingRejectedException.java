@@ -0,0 +1,8 @@
+package com.mycom.myapp.common.config.security.hashing;
+
+// 해싱 실행기 포화(대기열 초과/대기 시간 초과)로 거절됨 → 503
+public class PasswordHashingRejectedException extends RuntimeException {
+    public PasswordHashingRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
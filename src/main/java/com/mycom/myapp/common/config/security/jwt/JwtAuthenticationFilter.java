@@ -1,30 +1,46 @@
 package com.mycom.myapp.common.config.security.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final String ACCESS_COOKIE_NAME = "access_token";
 
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final Timer authenticatedTimer;
+    private final Timer rejectedTimer;
+
+    // true : 검증된 액세스 토큰의 sub/role 클레임만으로 인증 (요청마다 users 조회 X)
+    // false: 요청마다 UserDetailsService 로 사용자 조회 (권한 변경/탈퇴 즉시 반영)
+    @Value("${jwt.claims-only-authentication:true}")
+    private boolean claimsOnlyAuthentication;
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService, MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.userDetailsService = userDetailsService;
+        this.authenticatedTimer = filterTimer(meterRegistry, "authenticated");
+        this.rejectedTimer = filterTimer(meterRegistry, "rejected");
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -40,24 +56,50 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        // 토큰 검증 ~ 인증 세팅 구간만 측정 (뒤쪽 필터/컨트롤러 시간은 제외)
+        long started = System.nanoTime();
+        Timer outcome = rejectedTimer;
         try {
             Claims c = jwtUtil.parse(token);
             if(!jwtUtil.isAccess(c)) throw new RuntimeException("액세스 토큰이 아닙니다.");
 
             String userIdStr = c.getSubject();
-            UserDetails userDetail = userDetailsService.loadUserByUsername(userIdStr);
+            UserDetails userDetail = claimsOnlyAuthentication
+                    ? fromClaims(c)
+                    : userDetailsService.loadUserByUsername(userIdStr);
 
             UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken
                     = new UsernamePasswordAuthenticationToken(userDetail, null, userDetail.getAuthorities());
 
             SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+            outcome = authenticatedTimer;
         } catch (Exception e) {
             SecurityContextHolder.clearContext();
+        } finally {
+            outcome.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
         }
 
         filterChain.doFilter(request, response);
     }
 
+    private static Timer filterTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("jwt.filter")
+                .description("JWT 검증 및 인증 처리 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    // 토큰 클레임으로 principal 생성 (role 클레임이 없으면 인증 실패)
+    private UserDetails fromClaims(Claims c) {
+        String role = c.get("role", String.class);
+        if (role == null) throw new RuntimeException("role 클레임이 없습니다.");
+
+        return User.withUsername(c.getSubject())
+                .password("")
+                .authorities("ROLE_" + role)
+                .build();
+    }
+
     private String readCookie(HttpServletRequest request, String name) {
         Cookie[] cookies = request.getCookies();
         if (cookies == null) return null;
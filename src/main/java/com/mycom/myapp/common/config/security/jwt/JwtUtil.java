@@ -1,31 +1,67 @@
 package com.mycom.myapp.common.config.security.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
 import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Component
 public class JwtUtil {
 
     private final SecretKey key;
 
+    // 불변 + thread-safe 이므로 하나만 만들어서 재사용
+    private final JwtParser parser;
+
+    // 검증 완료된 액세스 토큰 캐시 (토큰 SHA-256 digest -> claims, exp 까지만 유효)
+    // 접근 순서 LinkedHashMap → 가득 차면 가장 오래 안 쓴 토큰을 O(1) 로 밀어냄
+    private final Map<String, Claims> verifiedCache;
+
+    private final Clock clock;
+
     @Value("${jwt.issuer}") private String issuer;
     @Value("${jwt.access_expiration_time}") private long accessTokenExpirationTime;
     @Value("${jwt.refresh_expiration_time}") private long refreshExpirationTime;
 
-    public JwtUtil(@Value("${jwt.secret}") String secret) {
+    @Autowired
+    public JwtUtil(@Value("${jwt.secret}") String secret,
+                   @Value("${jwt.verified-cache-size:10000}") int verifiedCacheMaxSize) {
+        this(secret, verifiedCacheMaxSize, Clock.systemUTC());
+    }
+
+    // 테스트에서 시각을 고정하기 위한 생성자
+    JwtUtil(String secret, int verifiedCacheMaxSize, Clock clock) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.clock = clock;
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .clock(() -> Date.from(clock.instant()))
+                .build();
+        this.verifiedCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Claims> eldest) {
+                return size() > verifiedCacheMaxSize;
+            }
+        });
     }
 
     public String createAccessToken(Long userId, String role) {
-        Instant now = Instant.now();
+        Instant now = clock.instant();
         return Jwts.builder()
                 .issuer(issuer)
                 .subject(String.valueOf(userId))
@@ -38,7 +74,7 @@ public class JwtUtil {
     }
 
     public String createRefreshToken(Long userId, String jti) {
-        Instant now = Instant.now();
+        Instant now = clock.instant();
         return Jwts.builder()
                 .issuer(issuer)
                 .subject(String.valueOf(userId))
@@ -50,12 +86,26 @@ public class JwtUtil {
                 .compact();
     }
 
+    /**
+     * 토큰 검증 + claims 반환
+     * - 같은 액세스 토큰이 반복해서 들어오면 캐시된 claims 반환 (서명 검증/JSON 파싱 생략)
+     * - 캐시 항목은 토큰 exp 가 지나면 버리고 다시 파싱 (→ 만료 예외)
+     */
     public Claims parse(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        String digest = digest(token);
+        Claims cached = verifiedCache.get(digest);
+        if (cached != null) {
+            if (!isExpired(cached, clock.instant())) {
+                return cached;
+            }
+            verifiedCache.remove(digest);
+        }
+
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        if (isAccess(claims) && claims.getExpiration() != null) {
+            verifiedCache.put(digest, claims);
+        }
+        return claims;
     }
 
     public boolean isAccess(Claims c)  { return "access".equals(c.get("typ")); }
@@ -63,4 +113,21 @@ public class JwtUtil {
 
     public long getAccessTtlSeconds() { return accessTokenExpirationTime; }
     public long getRefreshTtlSeconds() { return refreshExpirationTime; }
+
+    int verifiedCacheSize() {
+        return verifiedCache.size();
+    }
+
+    private boolean isExpired(Claims claims, Instant now) {
+        return !claims.getExpiration().toInstant().isAfter(now);
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(md.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
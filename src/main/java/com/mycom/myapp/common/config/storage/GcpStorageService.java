@@ -1,8 +1,16 @@
 package com.mycom.myapp.common.config.storage;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import com.google.cloud.ReadChannel;
+import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
@@ -11,28 +19,81 @@ import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
-public class GcpStorageService {
+@ConditionalOnProperty(name = "storage.type", havingValue = "gcs", matchIfMissing = true)
+public class GcpStorageService implements StorageService {
+
+    // 스트림에서 한 번에 읽는 크기
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // GCS resumable upload 청크 크기 (256KB 배수여야 함)
+    private static final int CHUNK_SIZE = 1024 * 1024;
 
     private final Storage storage;
 
     @Value("${gcp.bucket}")
     private String bucketName;
 
-    public String uploadFile(String fileName, byte[] content, String contentType) {
+    /**
+     * 스트림 업로드
+     * - 파일 전체를 byte[] 로 올리지 않고 BUFFER_SIZE 단위로 읽어서 resumable upload 채널에 씀
+     * - 동시 업로드가 많아도 요청당 힙 사용량은 버퍼 + GCS 청크 크기로 고정
+     */
+    @Override
+    public String uploadFile(String fileName, InputStream content, String contentType) throws IOException {
         BlobId blobId = BlobId.of(bucketName, fileName);
         BlobInfo blobInfo = BlobInfo.newBuilder(blobId)
                 .setContentType(contentType)
                 .build();
 
-        storage.create(blobInfo, content);
+        try (WriteChannel writer = storage.writer(blobInfo)) {
+            writer.setChunkSize(CHUNK_SIZE);
+
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                while (chunk.hasRemaining()) {
+                    writer.write(chunk);
+                }
+            }
+        }
         return String.format("gs://%s/%s", bucketName, fileName);
     }
 
+    @Override
     public void deleteFile(String fileUrl) {
-        String path = fileUrl.replace("gs://" + bucketName + "/", "");
-
-        BlobId blobId = BlobId.of(bucketName, path);
+        BlobId blobId = BlobId.of(bucketName, toObjectName(fileUrl));
         storage.delete(blobId);
     }
 
+    @Override
+    public String getPublicUrl(String fileName) {
+        return "https://storage.googleapis.com/" + bucketName + "/" + fileName;
+    }
+
+    @Override
+    public long transferTo(String fileUrl, long position, long count, WritableByteChannel target) throws IOException {
+        BlobId blobId = BlobId.of(bucketName, toObjectName(fileUrl));
+
+        try (ReadChannel reader = storage.reader(blobId)) {
+            reader.seek(position);
+            reader.limit(position + count);
+
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            long total = 0;
+            while (reader.read(buffer) > 0) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    total += target.write(buffer);
+                }
+                buffer.clear();
+            }
+            return total;
+        }
+    }
+
+    // gs://bucket/xxx → xxx
+    private String toObjectName(String fileUrl) {
+        return fileUrl.replace("gs://" + bucketName + "/", "");
+    }
+
 }
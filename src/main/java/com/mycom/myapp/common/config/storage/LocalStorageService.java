@@ -0,0 +1,92 @@
+package com.mycom.myapp.common.config.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로컬 디스크 저장소
+ * - 업로드 : 임시 파일에 스트림 복사 후 rename (중간에 끊겨도 반쪽 파일이 안 보이도록)
+ * - 읽기   : FileChannel.transferTo (zero-copy, 소켓 채널이면 sendfile)
+ */
+@Service
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalStorageService implements StorageService {
+
+    private final Path root;
+    private final String publicBaseUrl;
+
+    public LocalStorageService(@Value("${storage.local.root:./uploads}") String root,
+                               @Value("${storage.local.public-base-url:/storage/}") String publicBaseUrl) throws IOException {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.publicBaseUrl = publicBaseUrl.endsWith("/") ? publicBaseUrl : publicBaseUrl + "/";
+        Files.createDirectories(this.root);
+    }
+
+    @Override
+    public String uploadFile(String fileName, InputStream content, String contentType) throws IOException {
+        Path target = resolve(fileName);
+        Path temp = Files.createTempFile(root, "upload-", ".tmp");
+        try {
+            Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return fileName;
+    }
+
+    @Override
+    public void deleteFile(String storagePath) {
+        try {
+            Files.deleteIfExists(resolve(storagePath));
+        } catch (IOException e) {
+            throw new UncheckedIOException("파일 삭제 중 오류가 발생했습니다: " + storagePath, e);
+        }
+    }
+
+    @Override
+    public String getPublicUrl(String fileName) {
+        return publicBaseUrl + fileName;
+    }
+
+    @Override
+    public long transferTo(String storagePath, long position, long count, WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(resolve(storagePath), StandardOpenOption.READ)) {
+            long end = Math.min(position + count, channel.size());
+            long pos = position;
+            while (pos < end) {
+                long sent = channel.transferTo(pos, end - pos, target);
+                if (sent <= 0) {
+                    break;
+                }
+                pos += sent;
+            }
+            return pos - position;
+        }
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    // 저장소 루트 밖으로 나가는 경로(../ 등) 차단
+    private Path resolve(String storagePath) {
+        Path path = root.resolve(storagePath).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("잘못된 파일 경로입니다: " + storagePath);
+        }
+        return path;
+    }
+}
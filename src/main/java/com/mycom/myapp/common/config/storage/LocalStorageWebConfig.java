@@ -0,0 +1,28 @@
+package com.mycom.myapp.common.config.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import lombok.RequiredArgsConstructor;
+
+// 로컬 저장소 파일을 public URL(storage.local.public-base-url)로 서빙
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalStorageWebConfig implements WebMvcConfigurer {
+
+    private final LocalStorageService localStorageService;
+
+    @Value("${storage.local.public-base-url:/storage/}")
+    private String publicBaseUrl;
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        String pattern = (publicBaseUrl.endsWith("/") ? publicBaseUrl : publicBaseUrl + "/") + "**";
+        registry.addResourceHandler(pattern)
+                .addResourceLocations(localStorageService.getRoot().toUri().toString());
+    }
+}
@@ -0,0 +1,25 @@
+package com.mycom.myapp.common.config.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * 첨부파일 저장소 추상화
+ * - storage.type=gcs   : GcpStorageService (Google Cloud Storage)
+ * - storage.type=local : LocalStorageService (로컬 디스크, 온프레미스/부하 테스트용)
+ */
+public interface StorageService {
+
+    // 스트림 업로드 후 저장소 경로 반환 (삭제/다운로드 시 사용)
+    String uploadFile(String fileName, InputStream content, String contentType) throws IOException;
+
+    // 저장소 경로의 파일 삭제
+    void deleteFile(String storagePath);
+
+    // 프론트에서 바로 접근할 수 있는 URL
+    String getPublicUrl(String fileName);
+
+    // 저장소 경로의 [position, position + count) 구간을 target 으로 전송, 전송한 바이트 수 반환
+    long transferTo(String storagePath, long position, long count, WritableByteChannel target) throws IOException;
+}
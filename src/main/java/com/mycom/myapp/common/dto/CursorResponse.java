@@ -0,0 +1,15 @@
+package com.mycom.myapp.common.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+// 커서(keyset) 기반 페이지 응답 - nextCursor 를 다음 요청의 cursor 로 그대로 넘기면 됨
+@Data
+@Builder
+public class CursorResponse<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -11,6 +11,7 @@ import com.mycom.myapp.domain.user.entity.User;
 import com.mycom.myapp.domain.user.exception.UserNotFoundException;
 import com.mycom.myapp.domain.user.repository.UserRepository;
 import io.jsonwebtoken.Claims;
+import io.micrometer.core.annotation.Timed;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -18,8 +19,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.UUID;
@@ -37,6 +36,7 @@ public class LoginServiceImpl implements LoginService {
     private final JwtUtil jwtUtil;
 
     @Override
+    @Timed(value = "auth.login", description = "로그인 처리 시간 (비밀번호 검증 포함)", histogram = true)
     public LoginResponse login(LoginRequest loginRequest, HttpServletResponse response) {
         User user = userRepository.findByEmail(loginRequest.getEmail())
                 .orElseThrow(() -> new UserNotFoundException("로그인 대상 사용자를 찾을 수 없습니다: " + loginRequest.getEmail()));
@@ -50,7 +50,7 @@ public class LoginServiceImpl implements LoginService {
         String jti = UUID.randomUUID().toString();
         String refresh = jwtUtil.createRefreshToken(user.getId(), jti);
 
-        refreshTokenRepository.save(RefreshToken.of(jti, user, sha256(refresh), Instant.now().plusSeconds(jwtUtil.getRefreshTtlSeconds())));
+        refreshTokenRepository.save(RefreshToken.of(jti, user, RefreshTokenHasher.hash(refresh), Instant.now().plusSeconds(jwtUtil.getRefreshTtlSeconds())));
 
         setRefreshCookie(response, refresh);
         setAccessCookie(response, access);
@@ -63,6 +63,7 @@ public class LoginServiceImpl implements LoginService {
     }
 
     @Override
+    @Timed(value = "auth.refresh", description = "액세스 토큰 재발급 처리 시간", histogram = true)
     public String refresh(HttpServletRequest request, HttpServletResponse response) {
         String refresh = readCookie(request, REFRESH_COOKIE_NAME);
         if (refresh == null) throw new RuntimeException("리프레시 쿠키를 찾을 수 없습니다: " + Arrays.toString(request.getCookies()));
@@ -77,7 +78,7 @@ public class LoginServiceImpl implements LoginService {
                 .orElseThrow(() -> new RuntimeException("리프레시 토큰 정보를 찾을 수 없습니다: " + oldJti));
 
         if(old.isRevoked() || old.isExpired()) throw new RuntimeException("유효하지 않은 리프레시 토큰입니다: " + oldJti);
-        if(!old.getTokenHash().equals(sha256(refresh))) throw new RuntimeException("유효하지 않은 리프레시 토큰입니다: " + oldJti);
+        if(!old.getTokenHash().equals(RefreshTokenHasher.hash(refresh))) throw new RuntimeException("유효하지 않은 리프레시 토큰입니다: " + oldJti);
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + userId));
@@ -86,7 +87,7 @@ public class LoginServiceImpl implements LoginService {
         String newRefresh = jwtUtil.createRefreshToken(user.getId(), newJti);
 
         refreshTokenRepository.save(
-                RefreshToken.of(newJti, user, sha256(newRefresh),
+                RefreshToken.of(newJti, user, RefreshTokenHasher.hash(newRefresh),
                         Instant.now().plusSeconds(jwtUtil.getRefreshTtlSeconds()))
         );
 
@@ -114,26 +115,6 @@ public class LoginServiceImpl implements LoginService {
         clearAccessCookie(response);
     }
 
-    private String sha256(String token) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-
-            byte[] byteData = token.getBytes();
-            byte[] hashBytes = digest.digest(byteData);
-
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hashBytes) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) hexString.append('0');
-                hexString.append(hex);
-            }
-            return hexString.toString().toUpperCase();
-        } catch (NoSuchAlgorithmException e) {
-
-            throw new RuntimeException(e);
-        }
-    }
-
     private void setRefreshCookie(HttpServletResponse res, String refresh) {
         Cookie cookie = new Cookie(REFRESH_COOKIE_NAME, refresh);
         cookie.setHttpOnly(true);
@@ -0,0 +1,27 @@
+package com.mycom.myapp.domain.auth.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 리프레시 토큰 해시 (RefreshToken.tokenHash 에 저장/비교하는 값)
+ * - SHA-256 대문자 hex, 기존에 저장된 해시와 같은 형식
+ */
+public final class RefreshTokenHasher {
+
+    private static final HexFormat UPPER_HEX = HexFormat.of().withUpperCase();
+
+    private RefreshTokenHasher() {
+    }
+
+    public static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return UPPER_HEX.formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -28,6 +28,7 @@ public class GroupMemberServiceImpl implements GroupMemberService {
     private final GroupMemberRepository groupMemberRepository;
     private final GroupRepository groupRepository;
     private final UserRepository userRepository;
+    private final GroupMembershipCache membershipCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -72,6 +73,7 @@ public class GroupMemberServiceImpl implements GroupMemberService {
                 .build();
 
         GroupMember saved = groupMemberRepository.save(groupMember);
+        membershipCache.evict(groupId, user.getId());
 
         return GroupMemberResponse.from(saved);
     }
@@ -81,6 +83,7 @@ public class GroupMemberServiceImpl implements GroupMemberService {
     @Transactional
     public void deleteGroupMember(Long groupId, Long targetUserId, Long currentUserId) {
 
+        // 변경 권한 판단이라 membership 캐시(인스턴스 로컬, ttl 동안 옛 값 가능) 대신 DB 기준
         Group group = groupRepository.findById(groupId)
                 .orElseThrow(() -> new GroupNotFoundException("그룹을 찾을 수 없습니다: " + groupId));
 
@@ -104,6 +107,7 @@ public class GroupMemberServiceImpl implements GroupMemberService {
         }
 
         groupMemberRepository.deleteByGroupIdAndUserId(groupId, targetUserId);
+        membershipCache.evict(groupId, targetUserId);
     }
 
     @Override
@@ -128,6 +132,7 @@ public class GroupMemberServiceImpl implements GroupMemberService {
                 .build();
 
         GroupMember saved = groupMemberRepository.save(groupMember);
+        membershipCache.evict(groupId, user.getId());
 
         return GroupMemberResponse.from(saved);
     }
@@ -0,0 +1,98 @@
+package com.mycom.myapp.domain.group.service;
+
+import com.mycom.myapp.domain.group.GroupMemberRole;
+import com.mycom.myapp.domain.group.entity.GroupMember;
+import com.mycom.myapp.domain.group.repository.GroupMemberRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * (groupId, userId) -> 그룹 내 역할 캐시
+ * - 그룹 조회 시 역할 확인마다 group_members 를 조회하지 않도록 결과(비멤버 포함)를 ttl 동안 보관
+ * - 인스턴스마다 따로 가지는 캐시라 다른 서버의 evict 는 반영 안 됨 → 읽기 경로에만 사용, 멤버 추방 등 변경 권한은 DB 기준
+ * - 멤버 추가/삭제, 그룹 삭제 시 evict (트랜잭션 안이면 종료 후 한 번 더 → 커밋 전에 다른 요청이 옛 값을 다시 넣어도 정리됨)
+ */
+@Component
+public class GroupMembershipCache {
+
+    private record Key(Long groupId, Long userId) {}
+
+    // role == null 이면 비멤버
+    private record Entry(GroupMemberRole role, Instant expiresAt) {}
+
+    private final GroupMemberRepository groupMemberRepository;
+    private final Map<Key, Entry> cache = new ConcurrentHashMap<>();
+    private final long ttlSeconds;
+    private final int maxSize;
+
+    public GroupMembershipCache(GroupMemberRepository groupMemberRepository,
+                                @Value("${group.membership-cache.ttl-seconds:60}") long ttlSeconds,
+                                @Value("${group.membership-cache.max-size:10000}") int maxSize) {
+        this.groupMemberRepository = groupMemberRepository;
+        this.ttlSeconds = ttlSeconds;
+        this.maxSize = maxSize;
+    }
+
+    // 멤버가 아니면 empty
+    public Optional<GroupMemberRole> findRole(Long groupId, Long userId) {
+        Key key = new Key(groupId, userId);
+        Instant now = Instant.now();
+
+        Entry cached = cache.get(key);
+        if (cached != null) {
+            if (cached.expiresAt().isAfter(now)) {
+                return Optional.ofNullable(cached.role());
+            }
+            cache.remove(key, cached);
+        }
+
+        GroupMemberRole role = groupMemberRepository.findByGroupIdAndUserId(groupId, userId)
+                .map(GroupMember::getRole)
+                .orElse(null);
+        put(key, new Entry(role, now.plusSeconds(ttlSeconds)), now);
+        return Optional.ofNullable(role);
+    }
+
+    public boolean isMember(Long groupId, Long userId) {
+        return findRole(groupId, userId).isPresent();
+    }
+
+    public void evict(Long groupId, Long userId) {
+        Key key = new Key(groupId, userId);
+        runNowAndAfterCompletion(() -> cache.remove(key));
+    }
+
+    public void evictGroup(Long groupId) {
+        runNowAndAfterCompletion(() -> cache.keySet().removeIf(key -> key.groupId().equals(groupId)));
+    }
+
+    // 가득 차면 만료된 항목부터 정리, 그래도 가득 차 있으면 이번 결과는 캐시하지 않음
+    private void put(Key key, Entry entry, Instant now) {
+        if (cache.size() >= maxSize) {
+            cache.values().removeIf(e -> !e.expiresAt().isAfter(now));
+            if (cache.size() >= maxSize) {
+                return;
+            }
+        }
+        cache.put(key, entry);
+    }
+
+    private void runNowAndAfterCompletion(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -23,6 +23,7 @@ public class GroupServiceImpl implements GroupService {
     private final GroupRepository groupRepository;
     private final UserRepository userRepository;
     private final GroupMemberRepository groupMemberRepository;
+    private final GroupMembershipCache membershipCache;
 
 
     // Tx : Group 생성 시, 그룹을 생성한 OWNER 는 Group Member 에 항상 포함되어야 함
@@ -82,6 +83,7 @@ public class GroupServiceImpl implements GroupService {
 
         groupMemberRepository.deleteByGroupId(groupId);
         groupRepository.delete(group);
+        membershipCache.evictGroup(groupId);
     }
 
     @Override
@@ -91,24 +93,21 @@ public class GroupServiceImpl implements GroupService {
         Group group = groupRepository.findById(groupId)
                 .orElseThrow(() -> new GroupNotFoundException("그룹을 찾을 수 없습니다: " + groupId));
 
-        long memberCount = groupMemberRepository.countByGroupId(groupId);
-
         GroupMemberRole currentUserRole;
 
-        // 1. OWNER 인지 먼저 체크
+        // 1. OWNER 인지 먼저 체크 (owner id 는 FK 라 추가 조회 없음)
         if (group.getOwner().getId().equals(currentUserId)) {
             currentUserRole = GroupMemberRole.OWNER;
         } else {
-            // 2. OWNER가 아니라면, 그룹 멤버인지 확인
-            GroupMember membership = groupMemberRepository.findByGroupIdAndUserId(groupId, currentUserId)
+            // 2. OWNER가 아니라면, 그룹 멤버인지 확인 (membership 캐시)
+            currentUserRole = membershipCache.findRole(groupId, currentUserId)
                     .orElseThrow(() ->
                             new GroupPermissionDeniedException(
                                     "사용자 " + currentUserId + "는 그룹 " + groupId + "의 구성원이 아닙니다."
                             ));
-
-            // 3. 멤버라면 그 멤버의 role 사용 (MEMBER, ADMIN 등 확장 가능)
-            currentUserRole = membership.getRole();
         }
+
+        long memberCount = groupMemberRepository.countByGroupId(groupId);
         return GroupDetailResponse.from(group, currentUserRole, memberCount);
     }
 
@@ -15,6 +15,7 @@ public class ParticipationSummaryDto {
     private long noneCount;
     private long acceptedCount;
     private long declinedCount;
+    private long invitedCount;
 
     // 필요하면 참석자 리스트도 따로 DTO 만들어서 추가 가능
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.mycom.myapp.domain.participation.dto;
+
+// 참여 현황 요약 조회 결과 (참여 카운터 + 그룹 인원 수를 한 번에 조회하는 projection)
+public interface ParticipationSummaryView {
+
+    Long getScheduleId();
+
+    Long getGroupId();
+
+    Long getAcceptedCount();
+
+    Long getDeclinedCount();
+
+    Long getInvitedCount();
+
+    Long getMemberCount();
+}
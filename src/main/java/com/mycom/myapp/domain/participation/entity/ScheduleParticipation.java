@@ -15,6 +15,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -38,8 +39,20 @@ import lombok.Setter;
 @AllArgsConstructor
 @Builder
 public class ScheduleParticipation extends BaseEntity{
+    // IDENTITY 는 insert 마다 키를 받아와야 해서 JDBC batch 가 꺼짐
+    // → 테이블 generator 로 50개씩 미리 할당 (pooled), 참여자 insert 를 batch 로 묶음
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "schedule_participation_id")
+    @TableGenerator(
+        name = "schedule_participation_id",
+        table = "id_generator",
+        pkColumnName = "sequence_name",
+        valueColumnName = "next_val",
+        pkColumnValue = "schedule_participation",
+        allocationSize = ID_ALLOCATION_SIZE
+    )
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -4,17 +4,35 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.mycom.myapp.domain.participation.dto.ParticipationSummaryView;
 import com.mycom.myapp.domain.participation.entity.ParticipationStatus;
 import com.mycom.myapp.domain.participation.entity.ScheduleParticipation;
 
+import jakarta.persistence.LockModeType;
+
 @Repository
 public interface ScheduleParticipationRepository extends JpaRepository<ScheduleParticipation, Long> {
 
     // 특정 일정 + 특정 유저의 참여 정보 (있을 수도, 없을 수도)
     Optional<ScheduleParticipation> findByScheduleIdAndUserId(Long scheduleId, Long userId);
 
+    // 투표용: 같은 유저의 동시 투표가 같은 이전 상태를 보고 카운터를 두 번 증감하지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select p
+            from ScheduleParticipation p
+            where p.schedule.id = :scheduleId
+              and p.user.id = :userId
+            """)
+    Optional<ScheduleParticipation> findForUpdate(@Param("scheduleId") Long scheduleId,
+                                                  @Param("userId") Long userId);
+
     // 해당 일정의 특정 상태(ACCEPTED 등) 인원 수
     long countByScheduleIdAndStatus(Long scheduleId, ParticipationStatus status);
 
@@ -23,5 +41,30 @@ public interface ScheduleParticipationRepository extends JpaRepository<ScheduleP
 
     // 상태별 참여자 목록
     List<ScheduleParticipation> findByScheduleIdAndStatus(Long scheduleId, ParticipationStatus status);
-}
 
+    // 참여 현황 요약: 상태별 인원(일정의 참여 카운터) + 그룹 인원 수를 한 번에 조회
+    @Query("""
+            select s.id as scheduleId,
+                   s.group.id as groupId,
+                   s.acceptedCount as acceptedCount,
+                   s.declinedCount as declinedCount,
+                   s.invitedCount as invitedCount,
+                   (select count(gm) from GroupMember gm where gm.group.id = s.group.id) as memberCount
+            from Schedule s
+            where s.id = :scheduleId
+            """)
+    Optional<ParticipationSummaryView> findSummaryByScheduleId(@Param("scheduleId") Long scheduleId);
+
+    // 참여 id generator 초기값 세팅 (IDENTITY 시절 데이터의 max(id) 이후부터 할당되도록, 행이 없을 때만)
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            insert into id_generator (sequence_name, next_val)
+            select 'schedule_participation',
+                   coalesce((select max(p.id) from schedule_participation p), 0) + :gap
+            from dual
+            where not exists (
+                select 1 from id_generator g where g.sequence_name = 'schedule_participation'
+            )
+            """)
+    int seedIdGenerator(@Param("gap") long gap);
+}
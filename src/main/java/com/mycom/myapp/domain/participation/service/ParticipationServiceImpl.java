@@ -1,6 +1,7 @@
 package com.mycom.myapp.domain.participation.service;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -8,6 +9,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.mycom.myapp.domain.participation.dto.ParticipationRequestDto;
 import com.mycom.myapp.domain.participation.dto.ParticipationStatusResponseDto;
 import com.mycom.myapp.domain.participation.dto.ParticipationSummaryDto;
+import com.mycom.myapp.domain.participation.dto.ParticipationSummaryView;
 import com.mycom.myapp.domain.participation.entity.ParticipationStatus;
 import com.mycom.myapp.domain.participation.entity.ScheduleParticipation;
 import com.mycom.myapp.domain.participation.repository.ScheduleParticipationRepository;
@@ -16,6 +18,7 @@ import com.mycom.myapp.domain.schedule.repository.ScheduleRepository;
 import com.mycom.myapp.domain.user.entity.User;
 import com.mycom.myapp.domain.user.repository.UserRepository;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -34,6 +37,7 @@ public class ParticipationServiceImpl implements ParticipationService {
      * - request.status : ACCEPTED / DECLINED
      */
     @Override
+    @Timed(value = "schedule.vote", description = "참여/불참 투표 처리 시간", histogram = true)
     public ParticipationStatusResponseDto vote(Long userId, ParticipationRequestDto request) {
         Long scheduleId = request.getScheduleId();
 
@@ -62,9 +66,13 @@ public class ParticipationServiceImpl implements ParticipationService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("유저가 존재하지 않습니다. id=" + userId));
 
-        // 기존 참여 정보가 있으면 가져오고, 없으면 새로 생성
-        ScheduleParticipation participation = participationRepository
-                .findByScheduleIdAndUserId(scheduleId, userId)
+        // 기존 참여 정보가 있으면 잠그고 가져오고, 없으면 새로 생성
+        // (잠금 → 동시 투표는 순서대로 이전 상태를 봄, 첫 투표 동시 insert 는 uk_schedule_user 로 하나만 성공)
+        Optional<ScheduleParticipation> existing = participationRepository
+                .findForUpdate(scheduleId, userId);
+        ParticipationStatus before = existing.map(ScheduleParticipation::getStatus).orElse(null);
+
+        ScheduleParticipation participation = existing
                 .orElseGet(() -> ScheduleParticipation.builder()
                         .schedule(schedule)
                         .user(user)
@@ -76,9 +84,26 @@ public class ParticipationServiceImpl implements ParticipationService {
         participation.changeStatus(request.getStatus());
 
         ScheduleParticipation saved = participationRepository.save(participation);
+
+        // 참여 카운터 반영 (이전 상태 -1, 새 상태 +1)
+        ParticipationStatus after = saved.getStatus();
+        if (before != after) {
+            scheduleRepository.adjustParticipationCounts(
+                    scheduleId,
+                    countDelta(ParticipationStatus.ACCEPTED, before, after),
+                    countDelta(ParticipationStatus.DECLINED, before, after),
+                    countDelta(ParticipationStatus.INVITED, before, after)
+            );
+        }
+
         return ParticipationStatusResponseDto.fromEntity(saved);
     }
 
+    // 상태 변경(before → after)에 따른 target 상태 인원 증감
+    private long countDelta(ParticipationStatus target, ParticipationStatus before, ParticipationStatus after) {
+        return (after == target ? 1 : 0) - (before == target ? 1 : 0);
+    }
+
     /**
      * 내 참여 상태 조회 (이 일정에 나는 참여/불참?)
      */
@@ -94,31 +119,39 @@ public class ParticipationServiceImpl implements ParticipationService {
 
     /**
      * 참여 현황 요약
-     * - ACCEPTED 몇 명
-     * - DECLINED 몇 명
-     * - noneCount는 필요하면 그룹 인원 수 기반으로 계산 가능
+     * - ACCEPTED / DECLINED / INVITED 인원 수 (일정의 참여 카운터)
+     * - noneCount : 그룹 일정이면 그룹 인원 중 아직 응답(참여/불참) 안 한 인원,
+     *               개인 일정이면 INVITED 인원
+     * - 카운터 + 그룹 인원 수를 쿼리 한 번으로 조회
      */
     @Override
     @Transactional(readOnly = true)
     public ParticipationSummaryDto getParticipationSummary(Long scheduleId) {
 
-        long accepted = participationRepository
-                .countByScheduleIdAndStatus(scheduleId, ParticipationStatus.ACCEPTED);
+        ParticipationSummaryView view = participationRepository.findSummaryByScheduleId(scheduleId)
+                .orElseThrow(() -> new IllegalArgumentException("일정이 존재하지 않습니다. id=" + scheduleId));
 
-        long declined = participationRepository
-                .countByScheduleIdAndStatus(scheduleId, ParticipationStatus.DECLINED);
+        long accepted = nullToZero(view.getAcceptedCount());
+        long declined = nullToZero(view.getDeclinedCount());
+        long invited = nullToZero(view.getInvitedCount());
 
-        // TODO: 그룹 인원 수에서 accepted + declined 뺀 값으로 계산하고 싶으면 여기서 처리
-        long none = 0L;
+        long none = view.getGroupId() != null
+                ? Math.max(nullToZero(view.getMemberCount()) - accepted - declined, 0L)
+                : invited;
 
         return ParticipationSummaryDto.builder()
                 .scheduleId(scheduleId)
                 .acceptedCount(accepted)
                 .declinedCount(declined)
+                .invitedCount(invited)
                 .noneCount(none)
                 .build();
     }
 
+    private long nullToZero(Long value) {
+        return value != null ? value : 0L;
+    }
+
     /**
      * 실제 참여하는 사람 리스트 (ACCEPTED 상태만)
      */
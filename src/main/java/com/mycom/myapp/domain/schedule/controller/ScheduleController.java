@@ -1,7 +1,9 @@
 package com.mycom.myapp.domain.schedule.controller;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -49,14 +51,17 @@ public class ScheduleController {
     /**
      * 그룹 일정 목록 조회
      * GET /groups/{groupId}/schedules
+     * GET /groups/{groupId}/schedules?from=2025-01-01T00:00:00&to=2025-02-01T00:00:00 (달력 기간 조회)
      */
     @GetMapping("/groups/{groupId}/schedules")
     public ResponseEntity<List<ScheduleResponseDto>> getGroupScheduleList(
-            @PathVariable("groupId") Long groupId
+            @PathVariable("groupId") Long groupId,
+            @RequestParam(value = "from", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
     ) {
-        // TODO: groupId 기준으로 필터링하는 메서드로 변경 (예: scheduleService.getGroupSchedules(groupId))
-//        List<ScheduleResponseDto> list = scheduleService.getScheduleList();
-        List<ScheduleResponseDto> list = scheduleService.getGroupScheduleList(groupId);
+        List<ScheduleResponseDto> list = scheduleService.getGroupScheduleList(groupId, from, to);
         return ResponseEntity.ok(list);
     }
 
@@ -121,13 +126,18 @@ public class ScheduleController {
 
     /**
      * 개인 일정 목록 조회
-     * GET /personal-schedules
+     * GET /personal-schedules?ownerId=1
+     * GET /personal-schedules?ownerId=1&from=2025-01-01T00:00:00&to=2025-02-01T00:00:00 (달력 기간 조회)
      */
     @GetMapping("/personal-schedules")
     public ResponseEntity<List<ScheduleResponseDto>> getPersonalScheduleList(
-        @RequestParam("ownerId") Long ownerId
+        @RequestParam("ownerId") Long ownerId,
+        @RequestParam(value = "from", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @RequestParam(value = "to", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
     ) {
-      return ResponseEntity.ok(scheduleService.getPersonalScheduleList(ownerId));
+      return ResponseEntity.ok(scheduleService.getPersonalScheduleList(ownerId, from, to));
     }
 
     /**
@@ -166,4 +176,21 @@ public class ScheduleController {
         scheduleService.deleteSchedule(scheduleId);
         return ResponseEntity.noContent().build();
     }
+
+    // =========================
+    //  내 달력 API
+    // =========================
+
+    /**
+     * 내 달력 일정 조회 (개인 일정 + 내가 속한 모든 그룹 일정)
+     * GET /my-schedules?currentUserId=1&from=2025-01-01T00:00:00&to=2025-02-01T00:00:00
+     */
+    @GetMapping("/my-schedules")
+    public ResponseEntity<List<ScheduleResponseDto>> getMyCalendarScheduleList(
+            @RequestParam("currentUserId") Long currentUserId,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        return ResponseEntity.ok(scheduleService.getMyCalendarScheduleList(currentUserId, from, to));
+    }
 }
\ No newline at end of file
@@ -41,7 +41,8 @@ public class ScheduleResponseDto {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
-    private List<ScheduleCommentResponse> comments;
+    private List<ScheduleCommentResponse> comments;       // 첫 페이지만
+    private String commentsNextCursor;                    // 다음 댓글 페이지 커서 (없으면 null)
     private List<AttachmentResponseDto> attachments;
     
     private List<ParticipationStatusResponseDto> participations;
@@ -68,6 +69,15 @@ public class ScheduleResponseDto {
     public static ScheduleResponseDto fromEntityWithDetails(
             Schedule schedule,
             List<ScheduleComment> comments
+    ) {
+        return fromEntityWithDetails(schedule, comments, null);
+    }
+
+    // 상세용 (댓글 첫 페이지 + 다음 페이지 커서)
+    public static ScheduleResponseDto fromEntityWithDetails(
+            Schedule schedule,
+            List<ScheduleComment> comments,
+            String commentsNextCursor
     ) {
         List<ScheduleCommentResponse> commentDtos = comments.stream()
                 .map(ScheduleCommentResponse::fromEntity)
@@ -78,6 +88,7 @@ public class ScheduleResponseDto {
                         .id(a.getId())
                         .fileType(a.getFileType())
                         .fileUrl(a.getFileUrl())
+                        .thumbnailUrl(a.getThumbnailUrl())
                         .originalName(a.getOriginalName())
                         .fileSize(a.getFileSize())
                         .contentType(a.getContentType())
@@ -106,6 +117,7 @@ public class ScheduleResponseDto {
                 .createdAt(schedule.getCreatedAt())
                 .updatedAt(schedule.getUpdatedAt())
                 .comments(commentDtos)
+                .commentsNextCursor(commentsNextCursor)
                 .attachments(attachmentDtos)
                 .participations(participationDtos)   // ✅ 여기!
                 .build();
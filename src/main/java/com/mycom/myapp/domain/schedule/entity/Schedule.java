@@ -4,7 +4,11 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
+
 import com.mycom.myapp.domain.group.entity.Group;
+import com.mycom.myapp.domain.participation.entity.ParticipationStatus;
 import com.mycom.myapp.domain.participation.entity.ScheduleParticipation;
 import com.mycom.myapp.domain.schedule_extras.entity.ScheduleAttachment;
 import com.mycom.myapp.domain.schedule_extras.entity.ScheduleComment;
@@ -19,6 +23,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -30,7 +35,16 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name="schedule")
+@Table(
+	name = "schedule",
+	indexes = {
+		// 달력(기간) 조회용
+		@Index(name = "idx_schedule_group_start_end", columnList = "group_id, start_at, end_at"),
+		@Index(name = "idx_schedule_owner_start_end", columnList = "owner_id, start_at, end_at"),
+		@Index(name = "idx_schedule_status_vote_deadline", columnList = "status, vote_deadline_at") // 투표 마감 배치용
+	}
+)
+@DynamicUpdate // 변경된 컬럼만 UPDATE (참여 카운터를 덮어쓰지 않도록)
 @Setter
 @Getter
 @NoArgsConstructor
@@ -86,6 +100,21 @@ public class Schedule extends BaseEntity{
 	// 최소 참가자 수 설정
 	@Column(name = "min_participants")
 	private Integer minParticipants;
+
+	// 참여 현황 카운터 (투표 시 ScheduleRepository.adjustParticipationCounts 로 원자적 증감)
+	// 컬럼 추가 전 일정은 null 로 추가되고, 서버 시작 시 ParticipationCountInitializer 가 참여 테이블 기준으로 백필
+	// (NOT NULL DEFAULT 0 으로 두면 기존 일정이 전부 0 으로 채워져 백필 대상에서 빠짐)
+	@Builder.Default
+	@Column(name = "accepted_count")
+	private Long acceptedCount = 0L;
+
+	@Builder.Default
+	@Column(name = "declined_count")
+	private Long declinedCount = 0L;
+
+	@Builder.Default
+	@Column(name = "invited_count")
+	private Long invitedCount = 0L;
 	
 	@Builder.Default
 	@OneToMany(mappedBy = "schedule", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -101,8 +130,9 @@ public class Schedule extends BaseEntity{
 	    comment.setSchedule(null);
 	}
 	
-	// 첨부 파일
+	// 첨부 파일 (상세 조회 시 batch fetch 로 한 번에 로딩)
 	@Builder.Default
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "schedule", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ScheduleAttachment> attachments = new ArrayList<>();
 
@@ -134,6 +164,20 @@ public class Schedule extends BaseEntity{
         participation.setSchedule(null);
     }
 	
+	// 현재 participations 기준 카운터 초기값 (저장 전 새 일정에만 사용)
+	// 이미 저장된 일정은 동시 투표 증감을 덮어쓰지 않도록 ScheduleRepository.recountParticipationCounts 사용
+	public void initParticipationCounts() {
+		this.acceptedCount = countParticipations(ParticipationStatus.ACCEPTED);
+		this.declinedCount = countParticipations(ParticipationStatus.DECLINED);
+		this.invitedCount = countParticipations(ParticipationStatus.INVITED);
+	}
+
+	private long countParticipations(ParticipationStatus status) {
+		return participations.stream()
+				.filter(p -> p.getStatus() == status)
+				.count();
+	}
+	
 	public boolean isVoting() {
 		return status == ScheduleStatus.VOTING;
 	}
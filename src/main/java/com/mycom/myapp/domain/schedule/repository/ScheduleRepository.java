@@ -1,20 +1,140 @@
 package com.mycom.myapp.domain.schedule.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.mycom.myapp.domain.group.entity.Group;
 import com.mycom.myapp.domain.schedule.entity.Schedule;
+import com.mycom.myapp.domain.schedule.entity.ScheduleStatus;
 
 @Repository
 public interface ScheduleRepository extends JpaRepository<Schedule, Long>{
 	List<Schedule> findByGroup_Id(Long groupId);
-	
+
 	// owner = 나, 그리고 group 이 없는(개인) 일정만
 	List<Schedule> findByOwner_IdAndGroupIsNull(Long ownerId);
 
 	// 그 유저가 만든 모든 일정(그룹 + 개인)
 	List<Schedule> findByOwner_Id(Long ownerId);
+
+	// 상세 조회용: owner, group, 참여자(+유저) 를 한 번에 로딩
+	// 첨부는 별도 bag 이라 같이 fetch join 하면 MultipleBagFetchException → batch fetch 로 1회 추가 조회
+	@EntityGraph(attributePaths = {"owner", "group", "participations", "participations.user"})
+	@Query("select s from Schedule s where s.id = :id")
+	Optional<Schedule> findDetailById(@Param("id") Long id);
+
+	// 그룹 일정 중 [from, to) 기간과 겹치는 일정만 (idx_schedule_group_start_end)
+	@Query("""
+			select s
+			from Schedule s
+			where s.group.id = :groupId
+			  and s.startAt < :to
+			  and s.endAt > :from
+			order by s.startAt asc
+			""")
+	List<Schedule> findGroupSchedulesInRange(@Param("groupId") Long groupId,
+											 @Param("from") LocalDateTime from,
+											 @Param("to") LocalDateTime to);
+
+	// 개인 일정 중 [from, to) 기간과 겹치는 일정만 (idx_schedule_owner_start_end)
+	@Query("""
+			select s
+			from Schedule s
+			where s.owner.id = :ownerId
+			  and s.group is null
+			  and s.startAt < :to
+			  and s.endAt > :from
+			order by s.startAt asc
+			""")
+	List<Schedule> findPersonalSchedulesInRange(@Param("ownerId") Long ownerId,
+												@Param("from") LocalDateTime from,
+												@Param("to") LocalDateTime to);
+
+	// 내 달력: 내 개인 일정 + 내가 속한 모든 그룹의 일정 중 [from, to) 기간과 겹치는 일정
+	@Query("""
+			select s
+			from Schedule s
+			where s.startAt < :to
+			  and s.endAt > :from
+			  and (
+			        (s.group is null and s.owner.id = :userId)
+			        or s.group.id in (
+			            select gm.group.id
+			            from GroupMember gm
+			            where gm.user.id = :userId
+			        )
+			  )
+			order by s.startAt asc
+			""")
+	List<Schedule> findMyCalendarSchedulesInRange(@Param("userId") Long userId,
+												  @Param("from") LocalDateTime from,
+												  @Param("to") LocalDateTime to);
+
+	// 투표 마감 시간이 지난 일정 (idx_schedule_status_vote_deadline)
+	// 참여 카운터 백필 전(null) 일정은 백필 후 다음 주기에 처리
+	@Query("""
+			select s
+			from Schedule s
+			where s.status = :status
+			  and s.voteDeadlineAt < :now
+			  and s.acceptedCount is not null
+			order by s.voteDeadlineAt asc
+			""")
+	List<Schedule> findExpiredVotings(@Param("status") ScheduleStatus status,
+									  @Param("now") LocalDateTime now,
+									  Pageable pageable);
+
+	// 참여 카운터 증감 (DB 에서 원자적으로 더하기 → 동시 투표에도 유실 없음)
+	@Modifying
+	@Query("""
+			update Schedule s
+			set s.acceptedCount = s.acceptedCount + :accepted,
+			    s.declinedCount = s.declinedCount + :declined,
+			    s.invitedCount = s.invitedCount + :invited
+			where s.id = :scheduleId
+			""")
+	int adjustParticipationCounts(@Param("scheduleId") Long scheduleId,
+								  @Param("accepted") long accepted,
+								  @Param("declined") long declined,
+								  @Param("invited") long invited);
+
+	// 참여자 변경 후 카운터 재계산 (한 UPDATE 안에서 count → 동시에 들어온 증감을 덮어쓰지 않음)
+	// 먼저 flush 해서 이번 트랜잭션의 참여자 추가/삭제가 반영된 상태로 센다
+	@Modifying(flushAutomatically = true)
+	@Query(nativeQuery = true, value = """
+			update schedule s
+			set s.accepted_count = (select count(*) from schedule_participation p
+			                        where p.schedule_id = s.id and p.status = 'ACCEPTED'),
+			    s.declined_count = (select count(*) from schedule_participation p
+			                        where p.schedule_id = s.id and p.status = 'DECLINED'),
+			    s.invited_count  = (select count(*) from schedule_participation p
+			                        where p.schedule_id = s.id and p.status = 'INVITED')
+			where s.id = :scheduleId
+			""")
+	int recountParticipationCounts(@Param("scheduleId") Long scheduleId);
+
+	// 카운터 컬럼 추가 이전 데이터 백필 (카운터가 비어있는 일정만)
+	@Modifying
+	@Query(nativeQuery = true, value = """
+			update schedule s
+			set s.accepted_count = (select count(*) from schedule_participation p
+			                        where p.schedule_id = s.id and p.status = 'ACCEPTED'),
+			    s.declined_count = (select count(*) from schedule_participation p
+			                        where p.schedule_id = s.id and p.status = 'DECLINED'),
+			    s.invited_count  = (select count(*) from schedule_participation p
+			                        where p.schedule_id = s.id and p.status = 'INVITED')
+			where s.accepted_count is null
+			   or s.declined_count is null
+			   or s.invited_count is null
+			""")
+	int backfillParticipationCounts();
 }
@@ -0,0 +1,32 @@
+package com.mycom.myapp.domain.schedule.scheduler;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mycom.myapp.domain.schedule.repository.ScheduleRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서버 시작 시 참여 카운터(accepted/declined/invited_count)가 비어있는 일정 백필
+ * - 카운터 컬럼 추가 전에 만들어진 일정용, 이미 채워진 일정은 건드리지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParticipationCountInitializer implements ApplicationRunner {
+
+    private final ScheduleRepository scheduleRepository;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        int updated = scheduleRepository.backfillParticipationCounts();
+        if (updated > 0) {
+            log.info("참여 카운터 백필 완료: {}건", updated);
+        }
+    }
+}
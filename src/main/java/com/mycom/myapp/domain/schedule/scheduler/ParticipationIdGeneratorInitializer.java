@@ -0,0 +1,35 @@
+package com.mycom.myapp.domain.schedule.scheduler;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mycom.myapp.domain.participation.entity.ScheduleParticipation;
+import com.mycom.myapp.domain.participation.repository.ScheduleParticipationRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서버 시작 시 참여 id generator(id_generator) 초기값 세팅
+ * - IDENTITY → 테이블 generator 전환 전 데이터와 id 가 겹치지 않도록 max(id) 이후로 시작
+ * - pooled 옵티마이저는 (저장값 - allocationSize + 1) 부터 할당하므로 allocationSize + 1 만큼 띄움
+ * - 이미 행이 있으면 건드리지 않음
+ * - 요청이 들어와 generator 가 먼저 행을 만들면 안 되므로 ApplicationRunner 가 아니라 웹 서버 시작 전에 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParticipationIdGeneratorInitializer implements SmartInitializingSingleton {
+
+    private final ScheduleParticipationRepository participationRepository;
+
+    @Override
+    @Transactional
+    public void afterSingletonsInstantiated() {
+        int inserted = participationRepository.seedIdGenerator(ScheduleParticipation.ID_ALLOCATION_SIZE + 1L);
+        if (inserted > 0) {
+            log.info("참여 id generator 초기화 완료");
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.mycom.myapp.domain.schedule.scheduler;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.mycom.myapp.domain.schedule.service.ScheduleService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 투표 마감 시간이 지난 VOTING 일정을 주기적으로 종료 처리
+ * - 상세 조회(GET)에서 투표를 닫지 않도록 백그라운드로 분리
+ * - batch-size 단위로 트랜잭션을 나눠서 처리 (한 배치가 가득 차면 다음 배치 진행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteDeadlineScheduler {
+
+    private final ScheduleService scheduleService;
+
+    @Value("${schedule.vote-close.batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${schedule.vote-close.fixed-delay-ms:60000}")
+    public void closeExpiredVotings() {
+        LocalDateTime now = LocalDateTime.now();
+
+        int total = 0;
+        int closed;
+        do {
+            closed = scheduleService.closeExpiredVotings(now, batchSize);
+            total += closed;
+        } while (closed == batchSize);
+
+        if (total > 0) {
+            log.info("투표 마감 처리 완료: {}건", total);
+        }
+    }
+}
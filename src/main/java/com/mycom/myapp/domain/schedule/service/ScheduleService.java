@@ -1,5 +1,6 @@
 package com.mycom.myapp.domain.schedule.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import com.mycom.myapp.domain.schedule.dto.ScheduleRequestDto;
@@ -25,9 +26,21 @@ public interface ScheduleService {
     // 그룹 일정 목록
     List<ScheduleResponseDto> getGroupScheduleList(Long groupId);
 
+    // 그룹 일정 목록 (달력 기간 [from, to) 과 겹치는 일정만)
+    List<ScheduleResponseDto> getGroupScheduleList(Long groupId, LocalDateTime from, LocalDateTime to);
+
     // 개인 일정 목록 (ownerId = 현재 로그인 유저)
     List<ScheduleResponseDto> getPersonalScheduleList(Long ownerId);
+
+    // 개인 일정 목록 (달력 기간 [from, to) 과 겹치는 일정만)
+    List<ScheduleResponseDto> getPersonalScheduleList(Long ownerId, LocalDateTime from, LocalDateTime to);
+
+    // 내 달력 (개인 일정 + 내가 속한 모든 그룹 일정, 기간 [from, to))
+    List<ScheduleResponseDto> getMyCalendarScheduleList(Long userId, LocalDateTime from, LocalDateTime to);
     
     // 투표 종료 후, 인원에 따라 상태 변경
     void closeVoting(Long scheduleId);
+
+    // 마감 시간이 지난 투표 일정들을 최대 batchSize 건 종료 처리 (처리 건수 반환)
+    int closeExpiredVotings(LocalDateTime now, int batchSize);
 }
@@ -1,7 +1,16 @@
 package com.mycom.myapp.domain.schedule.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,11 +24,15 @@ import com.mycom.myapp.domain.schedule.dto.ScheduleResponseDto;
 import com.mycom.myapp.domain.schedule.entity.Schedule;
 import com.mycom.myapp.domain.schedule.entity.ScheduleStatus;
 import com.mycom.myapp.domain.schedule.repository.ScheduleRepository;
+import com.mycom.myapp.domain.schedule_extras.dto.CommentCursor;
 import com.mycom.myapp.domain.schedule_extras.entity.ScheduleComment;
 import com.mycom.myapp.domain.schedule_extras.repository.ScheduleCommentRepository;
+import com.mycom.myapp.domain.schedule_extras.service.AttachmentBlobService;
 import com.mycom.myapp.domain.user.entity.User;
 import com.mycom.myapp.domain.user.repository.UserRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -27,11 +40,15 @@ import lombok.RequiredArgsConstructor;
 @Transactional
 public class ScheduleServiceImpl implements ScheduleService {
 
+    // 상세 조회에 포함하는 댓글 수 (첫 페이지)
+    private static final int DETAIL_COMMENT_PAGE_SIZE = 20;
+
     private final ScheduleRepository scheduleRepository;
     private final ScheduleParticipationRepository participationRepository;
     private final UserRepository userRepository;
     private final GroupRepository groupRepository;
     private final ScheduleCommentRepository scheduleCommentRepository;
+    private final AttachmentBlobService attachmentBlobService;
 
     /**
      * 일정 생성
@@ -86,29 +103,21 @@ public class ScheduleServiceImpl implements ScheduleService {
                 .build();
         schedule.addParticipation(ownerParticipation);
 
-        // 🔹 6. DTO에 넘어온 참가자들도 참여자로 추가
-        if (dto.getParticipantUsersIds() != null && !dto.getParticipantUsersIds().isEmpty()) {
-            for (Long participantUserId : dto.getParticipantUsersIds()) {
-
-                // ownerId가 participantUsersIds에 들어있을 수도 있으니 한 번 걸러줌
-                if (participantUserId.equals(dto.getOwnerId())) {
-                    continue;
-                }
-
-                User participant = userRepository.findById(participantUserId)
-                        .orElseThrow(() -> new IllegalArgumentException("참여 유저가 없습니다. id=" + participantUserId));
-
-                ScheduleParticipation participation = ScheduleParticipation.builder()
-                        .schedule(schedule)
-                        .user(participant)
-                        .status(ParticipationStatus.ACCEPTED)
-                        .build();
+        // 🔹 6. DTO에 넘어온 참가자들도 참여자로 추가 (한 번에 조회, owner 는 제외)
+        for (User participant : resolveParticipants(dto.getParticipantUsersIds(), dto.getOwnerId())) {
+            ScheduleParticipation participation = ScheduleParticipation.builder()
+                    .schedule(schedule)
+                    .user(participant)
+                    .status(ParticipationStatus.ACCEPTED)
+                    .build();
 
-                // 양방향 연관관계 세팅
-                schedule.addParticipation(participation);
-            }
+            // 양방향 연관관계 세팅
+            schedule.addParticipation(participation);
         }
 
+        // 참여 카운터 초기값 (아직 INSERT 전이라 동시 투표와 겹칠 일 없음)
+        schedule.initParticipationCounts();
+
         // 🔹 7. schedule 하나만 save 해도
         //    participations는 CascadeType.ALL 덕분에 같이 INSERT 됨
         Schedule saved = scheduleRepository.save(schedule);
@@ -154,32 +163,95 @@ public class ScheduleServiceImpl implements ScheduleService {
                 .toList();
     }
 
+    /**
+     * 그룹 일정 목록 조회 (기간)
+     * - 달력에 보이는 기간 [from, to) 과 겹치는 일정만 조회
+     * - from, to 가 모두 없으면 전체 목록 조회와 동일
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ScheduleResponseDto> getGroupScheduleList(Long groupId, LocalDateTime from, LocalDateTime to) {
+        if (from == null && to == null) {
+            return getGroupScheduleList(groupId);
+        }
+        validateRange(from, to);
+
+        return scheduleRepository.findGroupSchedulesInRange(groupId, from, to).stream()
+                .map(ScheduleResponseDto::fromEntity)
+                .toList();
+    }
+
+    /**
+     * 개인 일정 목록 조회 (기간)
+     * - 달력에 보이는 기간 [from, to) 과 겹치는 개인 일정만 조회
+     * - from, to 가 모두 없으면 전체 목록 조회와 동일
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ScheduleResponseDto> getPersonalScheduleList(Long ownerId, LocalDateTime from, LocalDateTime to) {
+        if (from == null && to == null) {
+            return getPersonalScheduleList(ownerId);
+        }
+        validateRange(from, to);
+
+        return scheduleRepository.findPersonalSchedulesInRange(ownerId, from, to).stream()
+                .map(ScheduleResponseDto::fromEntity)
+                .toList();
+    }
+
+    /**
+     * 내 달력 일정 조회
+     * - 내 개인 일정 + 내가 멤버로 속한 모든 그룹의 일정을 한 번의 쿼리로 조회
+     * - 기간 [from, to) 은 필수 (그룹이 많아도 달력에 보이는 기간만 내려줌)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ScheduleResponseDto> getMyCalendarScheduleList(Long userId, LocalDateTime from, LocalDateTime to) {
+        validateRange(from, to);
+
+        return scheduleRepository.findMyCalendarSchedulesInRange(userId, from, to).stream()
+                .map(ScheduleResponseDto::fromEntity)
+                .toList();
+    }
+
+    // 기간 조회 파라미터 검증 (from, to 둘 다 필요 + from < to)
+    private void validateRange(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("from, to 는 함께 전달해야 합니다.");
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from 은 to 보다 이전이어야 합니다. from=" + from + ", to=" + to);
+        }
+    }
+
     /**
      * 일정 상세 조회
      * - 단건 Schedule 엔티티를 찾고
-     * - 해당 일정에 달린 댓글 목록을 댓글 레포지토리에서 조회
+     * - 해당 일정에 달린 댓글은 첫 페이지만 조회 (다음 페이지 커서 포함)
      * - 첨부파일은 schedule.getAttachments() 로 가져옴
+     * - 읽기 전용 (투표 마감은 스케줄러에서 처리)
      * - DTO의 fromEntityWithDetails(...) 를 사용해 댓글+첨부 포함한 상세 DTO로 변환
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
+    @Timed(value = "schedule.detail", description = "일정 상세 조회 시간", histogram = true)
     public ScheduleResponseDto getScheduleDetail(Long id) {
-        Schedule schedule = scheduleRepository.findById(id)
+        // owner/group/참여자+유저는 한 쿼리, 첨부는 batch fetch 1회 → 참여자 수와 무관하게 쿼리 수 고정
+        Schedule schedule = scheduleRepository.findDetailById(id)
                 .orElseThrow(() -> new IllegalArgumentException("해당 일정이 없습니다. id=" + id));
 
-        // 🔥 투표 상태 핵심 로직 시작
-        if (schedule.isVoting()
-                && schedule.getVoteDeadlineAt() != null
-                && schedule.getVoteDeadlineAt().isBefore(java.time.LocalDateTime.now())) {
+        // 투표 마감 처리는 VoteDeadlineScheduler 가 백그라운드에서 수행
 
-            closeVoting(schedule.getId());
+        // 🔥 댓글은 첫 페이지만 (나머지는 /schedules/{id}/comments/scroll 로 이어서 조회)
+        List<ScheduleComment> comments = scheduleCommentRepository.findFirstPage(
+                id, PageRequest.of(0, DETAIL_COMMENT_PAGE_SIZE + 1));
+        String commentsNextCursor = null;
+        if (comments.size() > DETAIL_COMMENT_PAGE_SIZE) {
+            comments = comments.subList(0, DETAIL_COMMENT_PAGE_SIZE);
+            commentsNextCursor = CommentCursor.encode(comments.get(comments.size() - 1));
         }
-        // 🔥 핵심 로직 끝
-
-        // 🔥 댓글도 같이 조회
-        List<ScheduleComment> comments = scheduleCommentRepository.findBySchedule_IdOrderByCreatedAtAsc(id);
 
-        return ScheduleResponseDto.fromEntityWithDetails(schedule, comments);
+        return ScheduleResponseDto.fromEntityWithDetails(schedule, comments, commentsNextCursor);
     }
 
     /**
@@ -211,36 +283,41 @@ public class ScheduleServiceImpl implements ScheduleService {
             schedule.setMinParticipants(null);
         }
 
-        // 🔹 참여자 리스트가 들어왔으면 → 참여자 전체를 DTO 기준으로 재세팅
+        // 🔹 참여자 리스트가 들어왔으면 → 기존 참여자와 비교해서 바뀐 부분만 반영
         if (dto.getParticipantUsersIds() != null) {
         	
             if (schedule.isVoting()) {
                 throw new IllegalStateException("투표 중인 일정은 참여자를 수정할 수 없습니다.");
             }
 
-            // 1) 기존 참여자 전부 삭제 (orphanRemoval = true 이므로 DB에서 delete)
-            for (ScheduleParticipation p : new java.util.ArrayList<>(schedule.getParticipations())) {
-                schedule.removeParticipation(p);
-            }
-
-            // 2) owner 다시 참여자로 등록 (원하면 유지)
             User owner = schedule.getOwner();
-            ScheduleParticipation ownerParticipation = ScheduleParticipation.builder()
-                    .user(owner)
-                    .status(ParticipationStatus.ACCEPTED)
-                    .build();
-            schedule.addParticipation(ownerParticipation);
-
-            // 3) DTO로 온 참여자들 다시 추가
-            for (Long participantUserId : dto.getParticipantUsersIds()) {
-
-                if (participantUserId.equals(owner.getId())) {
-                    continue;
+            Set<Long> desired = new LinkedHashSet<>(dto.getParticipantUsersIds());
+            desired.add(owner.getId()); // owner 는 항상 참여자
+
+            // 1) 목록에서 빠진 참여자만 삭제 (orphanRemoval = true 이므로 DB에서 delete)
+            //    남아있는 참여자는 상태/createdAt 그대로 유지
+            Set<Long> kept = new HashSet<>();
+            for (ScheduleParticipation p : new ArrayList<>(schedule.getParticipations())) {
+                Long userId = p.getUser().getId();
+                if (desired.contains(userId)) {
+                    kept.add(userId);
+                } else {
+                    schedule.removeParticipation(p);
                 }
+            }
 
-                User participant = userRepository.findById(participantUserId)
-                        .orElseThrow(() -> new IllegalArgumentException("참여 유저가 없습니다. id=" + participantUserId));
+            // 2) 새로 들어온 참여자만 추가
+            if (!kept.contains(owner.getId())) {
+                schedule.addParticipation(ScheduleParticipation.builder()
+                        .user(owner)
+                        .status(ParticipationStatus.ACCEPTED)
+                        .build());
+            }
 
+            List<Long> addedIds = desired.stream()
+                    .filter(userId -> !kept.contains(userId))
+                    .toList();
+            for (User participant : resolveParticipants(addedIds, owner.getId())) {
                 ScheduleParticipation participation = ScheduleParticipation.builder()
                         .user(participant)
                         .status(ParticipationStatus.ACCEPTED)
@@ -248,6 +325,9 @@ public class ScheduleServiceImpl implements ScheduleService {
 
                 schedule.addParticipation(participation);
             }
+
+            // 참여자 변경 → 카운터도 다시 계산 (DB 에서 한 번에, 동시 투표 증감 보존)
+            scheduleRepository.recountParticipationCounts(schedule.getId());
         }
 
         // 변경감지로 자동 update
@@ -255,6 +335,36 @@ public class ScheduleServiceImpl implements ScheduleService {
     }
 
 
+    /**
+     * 참여자 일괄 조회
+     * - owner 와 중복 id 는 제외 (요청 순서 유지)
+     * - findAllById 한 번으로 조회하고, 없는 id 는 모아서 한 번에 예외
+     */
+    private List<User> resolveParticipants(List<Long> participantUserIds, Long ownerId) {
+        if (participantUserIds == null || participantUserIds.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> ids = new LinkedHashSet<>(participantUserIds);
+        ids.remove(null);
+        ids.remove(ownerId);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, User> found = userRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<Long> missing = ids.stream()
+                .filter(id -> !found.containsKey(id))
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("참여 유저가 없습니다. id=" + missing);
+        }
+
+        return ids.stream().map(found::get).toList();
+    }
+
     /**
      * 일정 삭제
      * - 지정된 id의 일정 삭제
@@ -263,6 +373,8 @@ public class ScheduleServiceImpl implements ScheduleService {
      */
     @Override
     public void deleteSchedule(Long id) {
+        // cascade 로 지워지는 첨부의 참조 해제 → 마지막 참조였던 저장소 파일은 outbox 로 삭제 요청 (같은 트랜잭션)
+        attachmentBlobService.releaseBySchedule(id);
         scheduleRepository.deleteById(id);
     }
 
@@ -284,10 +396,32 @@ public class ScheduleServiceImpl implements ScheduleService {
             throw new IllegalStateException("투표 중인 일정이 아닙니다. id=" + scheduleId);
         }
 
-        // ACCEPTED 상태인 참여 인원 수
-        long acceptedCount = participationRepository
-                .countByScheduleIdAndStatus(scheduleId, ParticipationStatus.ACCEPTED);
+        // ACCEPTED 상태인 참여 인원 수 (참여 카운터, 서버 시작 시 백필 전이면 null)
+        if (schedule.getAcceptedCount() == null) {
+            throw new IllegalStateException("참여 인원 집계 전인 일정입니다. id=" + scheduleId);
+        }
+        applyVotingResult(schedule, schedule.getAcceptedCount());
+    }
+
+    /**
+     * 투표 마감 일괄 처리 (VoteDeadlineScheduler 에서 호출)
+     * - status = VOTING 이고 voteDeadlineAt < now 인 일정을 batchSize 건 조회
+     * - ACCEPTED 인원 수는 일정의 참여 카운터 사용 (추가 count 쿼리 없음)
+     * - 일정별로 CONFIRMED / CANCELED 결정 (변경 감지로 UPDATE)
+     */
+    @Override
+    public int closeExpiredVotings(LocalDateTime now, int batchSize) {
+        List<Schedule> expired = scheduleRepository.findExpiredVotings(
+                ScheduleStatus.VOTING, now, PageRequest.of(0, batchSize));
+
+        for (Schedule schedule : expired) {
+            applyVotingResult(schedule, schedule.getAcceptedCount());
+        }
+        return expired.size();
+    }
 
+    // 최소 인원과 비교해서 투표 결과 반영
+    private void applyVotingResult(Schedule schedule, long acceptedCount) {
         Integer min = schedule.getMinParticipants();
 
         if (min != null && acceptedCount < min) {
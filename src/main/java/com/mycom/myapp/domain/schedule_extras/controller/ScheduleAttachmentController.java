@@ -1,16 +1,34 @@
 package com.mycom.myapp.domain.schedule_extras.controller;
 
+import com.mycom.myapp.domain.schedule_extras.dto.AttachmentDownload;
 import com.mycom.myapp.domain.schedule_extras.dto.AttachmentRequestDto;
 import com.mycom.myapp.domain.schedule_extras.dto.AttachmentResponseDto;
+import com.mycom.myapp.domain.schedule_extras.dto.UploadSessionInitRequest;
+import com.mycom.myapp.domain.schedule_extras.dto.UploadSessionResponse;
 import com.mycom.myapp.domain.schedule_extras.entity.ScheduleAttachment;
+import com.mycom.myapp.domain.schedule_extras.service.AttachmentUploadSessionService;
+import com.mycom.myapp.domain.schedule_extras.service.MultipartAttachmentUploader;
 import com.mycom.myapp.domain.schedule_extras.service.ScheduleAttachmentService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 import com.mycom.myapp.domain.schedule_extras.entity.enums.FileType;
 
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -18,7 +36,12 @@ import java.util.List;
 @RequestMapping("/schedules/{scheduleId}/attachments")
 public class ScheduleAttachmentController {
 
+    // 첨부 내용은 바뀌지 않음 → 잠깐은 캐시 그대로, 이후엔 If-None-Match 로 재검증(304)
+    private static final CacheControl DOWNLOAD_CACHE_CONTROL = CacheControl.maxAge(Duration.ofHours(1)).cachePrivate();
+
     private final ScheduleAttachmentService attachmentService;
+    private final AttachmentUploadSessionService uploadSessionService;
+    private final MultipartAttachmentUploader multipartUploader;
 
     /**
      * 첨부파일 업로드
@@ -33,12 +56,7 @@ public class ScheduleAttachmentController {
     ) {
 
         // fileType 검증 추가
-        FileType type;
-        try {
-            type = FileType.valueOf(fileType.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException("올바르지 않은 파일 타입입니다.");
-        }
+        FileType type = parseFileType(fileType);
 
         AttachmentRequestDto dto = AttachmentRequestDto.builder()
                 .file(file)
@@ -46,7 +64,7 @@ public class ScheduleAttachmentController {
                 .build();
 
         AttachmentResponseDto response =
-                attachmentService.uploadAttachment(scheduleId, userId, dto);
+                multipartUploader.upload(scheduleId, userId, dto);
 
         return ResponseEntity.ok(response);
 
@@ -81,4 +99,173 @@ public class ScheduleAttachmentController {
         return ResponseEntity.noContent().build(); // 204 No Content
     }
 
+    /**
+     * 이어 올리기 업로드 시작
+     * POST /schedules/{scheduleId}/attachments/uploads?userId=1
+     * body: { fileName, fileType, contentType, totalSize } → uploadId, offset(0), maxChunkSize
+     */
+    @PostMapping("/uploads")
+    public ResponseEntity<UploadSessionResponse> initUpload(
+            @PathVariable Long scheduleId,
+            @RequestParam Long userId,
+            @RequestBody UploadSessionInitRequest request
+    ) {
+        FileType type = parseFileType(request.getFileType());
+        return ResponseEntity.ok(uploadSessionService.init(scheduleId, userId, type, request));
+    }
+
+    /**
+     * 이어 올리기 상태 (연결이 끊긴 뒤 offset 확인용)
+     * GET /schedules/{scheduleId}/attachments/uploads/{uploadId}?userId=1
+     */
+    @GetMapping("/uploads/{uploadId}")
+    public ResponseEntity<UploadSessionResponse> getUpload(
+            @PathVariable Long scheduleId,
+            @PathVariable String uploadId,
+            @RequestParam Long userId
+    ) {
+        return ResponseEntity.ok(uploadSessionService.getStatus(scheduleId, uploadId, userId));
+    }
+
+    /**
+     * 청크 전송 (본문 = 청크 바이트)
+     * PUT /schedules/{scheduleId}/attachments/uploads/{uploadId}?userId=1&offset=0
+     * - offset 이 서버가 받은 바이트 수와 다르면 409 + 현재 offset
+     */
+    @PutMapping(value = "/uploads/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<UploadSessionResponse> putChunk(
+            @PathVariable Long scheduleId,
+            @PathVariable String uploadId,
+            @RequestParam Long userId,
+            @RequestParam long offset,
+            HttpServletRequest request
+    ) throws IOException {
+        return ResponseEntity.ok(
+                uploadSessionService.appendChunk(scheduleId, uploadId, userId, offset, request.getInputStream()));
+    }
+
+    /**
+     * 이어 올리기 완료 → 첨부 생성
+     * POST /schedules/{scheduleId}/attachments/uploads/{uploadId}/complete?userId=1
+     */
+    @PostMapping("/uploads/{uploadId}/complete")
+    public ResponseEntity<AttachmentResponseDto> completeUpload(
+            @PathVariable Long scheduleId,
+            @PathVariable String uploadId,
+            @RequestParam Long userId
+    ) {
+        return ResponseEntity.ok(uploadSessionService.complete(scheduleId, uploadId, userId));
+    }
+
+    /**
+     * 이어 올리기 취소
+     * DELETE /schedules/{scheduleId}/attachments/uploads/{uploadId}?userId=1
+     */
+    @DeleteMapping("/uploads/{uploadId}")
+    public ResponseEntity<Void> abortUpload(
+            @PathVariable Long scheduleId,
+            @PathVariable String uploadId,
+            @RequestParam Long userId
+    ) {
+        uploadSessionService.abort(scheduleId, uploadId, userId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 첨부파일 다운로드 (저장소 → 응답으로 스트리밍)
+     * GET /schedules/{scheduleId}/attachments/{attachmentId}/download
+     * - ETag / Last-Modified : If-None-Match, If-Modified-Since 가 맞으면 304
+     * - Range : 단일 구간이면 206 (If-Range 가 다르면 전체 200), 파일 범위 밖이면 416
+     */
+    @GetMapping("/{attachmentId}/download")
+    public void downloadAttachment(
+            @PathVariable Long scheduleId,
+            @PathVariable Long attachmentId,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        AttachmentDownload download = attachmentService.getDownload(scheduleId, attachmentId);
+        long size = download.getFileSize();
+        long lastModified = download.getLastModified().toEpochMilli();
+
+        response.setHeader(HttpHeaders.ETAG, download.getEtag());
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, DOWNLOAD_CACHE_CONTROL.getHeaderValue());
+
+        if (new ServletWebRequest(request, response).checkNotModified(download.getEtag(), lastModified)) {
+            return;
+        }
+
+        long start = 0;
+        long count = size;
+        HttpRange range = singleRange(request, download);
+        if (range != null) {
+            try {
+                start = range.getRangeStart(size);
+                count = range.getRangeEnd(size) - start + 1;
+            } catch (IllegalArgumentException e) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                return;
+            }
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    "bytes " + start + "-" + (start + count - 1) + "/" + size);
+        }
+
+        response.setContentType(download.getContentType() != null
+                ? download.getContentType()
+                : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setContentLengthLong(count);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(download.getOriginalName() != null ? download.getOriginalName() : "download", StandardCharsets.UTF_8)
+                .build()
+                .toString());
+
+        if (!HttpMethod.HEAD.matches(request.getMethod()) && count > 0) {
+            attachmentService.writeContent(download, start, count, response.getOutputStream());
+        }
+    }
+
+    private FileType parseFileType(String fileType) {
+        try {
+            return FileType.valueOf(fileType.toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("올바르지 않은 파일 타입입니다.");
+        }
+    }
+
+    // 단일 구간 Range 만 처리 (여러 구간/형식 오류/If-Range 불일치면 null → 전체 전송)
+    private HttpRange singleRange(HttpServletRequest request, AttachmentDownload download) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null) {
+            return null;
+        }
+
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRangeMatches(request, ifRange, download)) {
+            return null;
+        }
+
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // If-Range 는 ETag 또는 HTTP 날짜 (ETag 를 날짜로 파싱하면 예외 → 불일치로 보고 전체 전송)
+    private boolean ifRangeMatches(HttpServletRequest request, String ifRange, AttachmentDownload download) {
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(download.getEtag());
+        }
+        try {
+            long ifRangeDate = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return ifRangeDate != -1 && ifRangeDate / 1000 == download.getLastModified().toEpochMilli() / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.mycom.myapp.domain.schedule_extras.controller;
 
+import com.mycom.myapp.common.dto.CursorResponse;
 import com.mycom.myapp.domain.schedule_extras.dto.ScheduleCommentCreateRequestDto;
 import com.mycom.myapp.domain.schedule_extras.dto.ScheduleCommentResponse;
 import com.mycom.myapp.domain.schedule_extras.dto.ScheduleCommentUpdateRequest;
@@ -41,6 +42,17 @@ public class ScheduleCommentController {
         return ResponseEntity.ok(response);
     }
 
+    // 댓글 커서 페이지 조회
+    // GET /schedules/{scheduleId}/comments/scroll?size=20&cursor={이전 응답의 nextCursor}
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorResponse<ScheduleCommentResponse>> getCommentPage(
+            @PathVariable Long scheduleId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(commentService.getCommentPage(scheduleId, cursor, size));
+    }
+
     // 댓글 수정
     @PatchMapping("/{commentId}")
     public ResponseEntity<ScheduleCommentResponse> updateComment(
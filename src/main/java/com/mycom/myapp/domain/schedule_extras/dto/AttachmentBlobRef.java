@@ -0,0 +1,15 @@
+package com.mycom.myapp.domain.schedule_extras.dto;
+
+// 첨부 삭제 시 저장소 정리에 필요한 값만 조회하는 projection
+public interface AttachmentBlobRef {
+
+    String getGcsPath();
+
+    // 중복 제거 이전 첨부는 null
+    String getContentHash();
+
+    // 썸네일이 없으면 null
+    String getThumbnailPath();
+
+    String getThumbnailHash();
+}
@@ -0,0 +1,22 @@
+package com.mycom.myapp.domain.schedule_extras.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+// 다운로드 응답 헤더(ETag/Last-Modified/Range) 계산과 스트리밍에 필요한 첨부 정보
+@Getter
+@Builder
+@AllArgsConstructor
+public class AttachmentDownload {
+    private Long attachmentId;
+    private String storagePath;
+    private long fileSize;
+    private String contentType;
+    private String originalName;
+    // 따옴표 포함 strong ETag (첨부 내용은 바뀌지 않음)
+    private String etag;
+    private Instant lastModified;
+}
@@ -15,6 +15,8 @@ public class AttachmentResponseDto {
     private Long scheduleId;
     private FileType fileType;
     private String fileUrl;
+    // IMAGE 썸네일 (생성 전이거나 실패하면 null → fileUrl 사용)
+    private String thumbnailUrl;
     private String originalName;
     private Long fileSize;
     private String contentType;
@@ -0,0 +1,40 @@
+package com.mycom.myapp.domain.schedule_extras.dto;
+
+import com.mycom.myapp.domain.schedule_extras.entity.ScheduleComment;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 댓글 커서 (createdAt, id)
+ * - 클라이언트에는 "createdAt|id" 를 base64url 로 인코딩한 문자열로 전달
+ */
+@Getter
+@AllArgsConstructor
+public class CommentCursor {
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static String encode(ScheduleComment last) {
+        String raw = last.getCreatedAt() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CommentCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            return new CommentCursor(
+                    LocalDateTime.parse(raw.substring(0, sep)),
+                    Long.valueOf(raw.substring(sep + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+}
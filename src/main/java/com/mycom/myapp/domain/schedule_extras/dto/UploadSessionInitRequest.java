@@ -0,0 +1,15 @@
+package com.mycom.myapp.domain.schedule_extras.dto;
+
+import lombok.*;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSessionInitRequest {
+    private String fileName;
+    private String fileType;
+    private String contentType;
+    // 전체 파일 크기 (bytes)
+    private long totalSize;
+}
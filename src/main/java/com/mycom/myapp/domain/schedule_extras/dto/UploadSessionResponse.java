@@ -0,0 +1,33 @@
+package com.mycom.myapp.domain.schedule_extras.dto;
+
+import com.mycom.myapp.domain.schedule_extras.entity.UploadSession;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSessionResponse {
+    private String uploadId;
+    private Long scheduleId;
+    private String originalName;
+    private long totalSize;
+    // 다음 청크를 보낼 위치 (= 지금까지 받은 바이트 수)
+    private long offset;
+    private long maxChunkSize;
+    private LocalDateTime expiresAt;
+
+    public static UploadSessionResponse from(UploadSession session, long offset, long maxChunkSize) {
+        return UploadSessionResponse.builder()
+                .uploadId(session.getId())
+                .scheduleId(session.getScheduleId())
+                .originalName(session.getOriginalName())
+                .totalSize(session.getTotalSize())
+                .offset(offset)
+                .maxChunkSize(maxChunkSize)
+                .expiresAt(session.getExpiresAt())
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.mycom.myapp.domain.schedule_extras.entity;
 
 import com.mycom.myapp.domain.schedule.entity.Schedule;
 import com.mycom.myapp.domain.schedule_extras.entity.enums.FileType;
+import com.mycom.myapp.domain.schedule_extras.entity.enums.ThumbnailStatus;
 import com.mycom.myapp.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
@@ -9,7 +10,13 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "schedule_attachments")
+@Table(
+        name = "schedule_attachments",
+        indexes = {
+                // 썸네일 생성 대기 조회용
+                @Index(name = "idx_attachment_thumbnail_status", columnList = "thumbnail_status")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -34,6 +41,26 @@ public class ScheduleAttachment {
     @Column(nullable = false)
     private String gcsPath;
 
+    // 내용 SHA-256 (StoredBlob.digest), 중복 제거 이전 첨부는 null
+    @Column(length = 64)
+    private String contentHash;
+
+    // 썸네일 (IMAGE 만, ThumbnailWorker 가 업로드 후 비동기로 생성)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "thumbnail_status", length = 20)
+    private ThumbnailStatus thumbnailStatus;
+
+    private String thumbnailPath;
+    private String thumbnailUrl;
+
+    // 썸네일 내용 SHA-256 (StoredBlob.digest)
+    @Column(length = 64)
+    private String thumbnailHash;
+
+    // PROCESSING 선점 만료 시각 (워커가 죽어도 이 시각 이후 다른 워커가 다시 처리)
+    @Column(name = "thumbnail_lease_until")
+    private LocalDateTime thumbnailLeaseUntil;
+
     private String originalName;
     private Long fileSize;
     private String contentType;
@@ -9,7 +9,13 @@ import java.time.LocalDateTime;
 
 
 @Entity
-@Table(name = "schedule_comments")
+@Table(
+        name = "schedule_comments",
+        indexes = {
+                // 댓글 커서 페이지 조회용
+                @Index(name = "idx_comment_schedule_created_id", columnList = "schedule_id, created_at, id")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
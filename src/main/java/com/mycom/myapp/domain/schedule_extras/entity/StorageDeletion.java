@@ -0,0 +1,66 @@
+package com.mycom.myapp.domain.schedule_extras.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장소 파일 삭제 outbox
+ * - 첨부/일정 삭제 트랜잭션 안에서 같이 insert → 롤백되면 삭제 요청도 같이 사라짐
+ * - StorageDeletionWorker 가 커밋된 항목만 꺼내서 실제 저장소 삭제 (실패 시 backoff 후 재시도)
+ */
+@Entity
+@Table(
+        name = "storage_deletion_outbox",
+        indexes = {
+                // 처리 대상 조회용
+                @Index(name = "idx_storage_deletion_next_attempt", columnList = "next_attempt_at")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class StorageDeletion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 삭제할 저장소 경로 (ScheduleAttachment.gcsPath)
+    @Column(nullable = false)
+    private String storagePath;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // 이 시각 이후에 처리 (처리 중에는 lease 만큼 뒤로 밀어 둠)
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public static StorageDeletion of(String storagePath, LocalDateTime now) {
+        return StorageDeletion.builder()
+                .storagePath(storagePath)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    public void lease(LocalDateTime until) {
+        this.nextAttemptAt = until;
+    }
+
+    public void failed(String error, LocalDateTime retryAt) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        this.nextAttemptAt = retryAt;
+    }
+}
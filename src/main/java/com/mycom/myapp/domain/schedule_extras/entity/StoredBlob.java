@@ -0,0 +1,48 @@
+package com.mycom.myapp.domain.schedule_extras.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 기준(SHA-256) 으로 한 번만 저장된 첨부 파일
+ * - 같은 내용의 첨부는 저장소 파일 하나를 refCount 로 공유
+ * - refCount 가 0 이 되면 row 를 지우고 저장소 파일은 outbox 로 삭제
+ */
+@Entity
+@Table(
+        name = "stored_blobs",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_stored_blob_digest", columnNames = "digest")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class StoredBlob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // SHA-256 hex
+    @Column(nullable = false, length = 64)
+    private String digest;
+
+    // 저장소 경로 (ScheduleAttachment.gcsPath 와 같은 값)
+    @Column(nullable = false)
+    private String storagePath;
+
+    @Column(nullable = false)
+    private String publicUrl;
+
+    private Long fileSize;
+
+    @Column(nullable = false)
+    private long refCount;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,70 @@
+package com.mycom.myapp.domain.schedule_extras.entity;
+
+import com.mycom.myapp.domain.schedule_extras.entity.enums.FileType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이어 올리기(청크) 업로드 세션
+ * - 청크는 서버 임시 디렉터리의 {id}.part 파일에 이어 붙임 (받은 바이트 수 = 임시 파일 크기)
+ * - complete 시 ScheduleAttachment 로 확정하고 세션/임시 파일 삭제, 만료된 세션은 UploadSessionCleaner 가 정리
+ * - complete 는 completingUntil 로 선점 → 같은 세션을 동시에 두 번 완료하지 않음
+ */
+@Entity
+@Table(
+        name = "upload_sessions",
+        indexes = {
+                // 만료 세션 정리용
+                @Index(name = "idx_upload_session_expires_at", columnList = "expires_at")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class UploadSession {
+
+    // 클라이언트에 주는 업로드 id (UUID)
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(nullable = false)
+    private Long scheduleId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private FileType fileType;
+
+    private String originalName;
+    private String contentType;
+
+    @Column(nullable = false)
+    private long totalSize;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // complete 처리 중이면 이 시각까지 다른 complete/abort 를 막음 (처리 서버가 죽어도 이후 재시도 가능)
+    private LocalDateTime completingUntil;
+
+    public boolean isCompleting(LocalDateTime now) {
+        return completingUntil != null && completingUntil.isAfter(now);
+    }
+
+    public void startCompleting(LocalDateTime until) {
+        this.completingUntil = until;
+    }
+
+    public void stopCompleting() {
+        this.completingUntil = null;
+    }
+}
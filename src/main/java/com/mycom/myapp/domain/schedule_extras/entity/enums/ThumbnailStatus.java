@@ -0,0 +1,9 @@
+package com.mycom.myapp.domain.schedule_extras.entity.enums;
+
+// IMAGE 첨부의 썸네일 생성 상태 (IMAGE 가 아니거나 이전 첨부는 null)
+public enum ThumbnailStatus {
+    PENDING,
+    PROCESSING, // 워커가 선점해서 생성 중 (thumbnailLeaseUntil 이 지나면 다시 대상)
+    READY,
+    FAILED
+}
@@ -0,0 +1,26 @@
+package com.mycom.myapp.domain.schedule_extras.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+
+@RestControllerAdvice(basePackages = "com.mycom.myapp.domain.schedule_extras")
+public class ScheduleExtrasExceptionHandler {
+
+    /* =========================
+      Upload Session Exception
+      ========================= */
+
+    @ExceptionHandler(UploadOffsetMismatchException.class)
+    public ResponseEntity<Map<String, Object>> handleOffsetMismatch(UploadOffsetMismatchException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of(
+                        "message", ex.getMessage(),
+                        "code", "UPLOAD_OFFSET_MISMATCH",
+                        "offset", ex.getCurrentOffset()
+                ));
+    }
+}
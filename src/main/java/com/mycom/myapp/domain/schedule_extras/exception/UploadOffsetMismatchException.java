@@ -0,0 +1,15 @@
+package com.mycom.myapp.domain.schedule_extras.exception;
+
+import lombok.Getter;
+
+// 청크 offset 이 서버가 받은 바이트 수와 다름 (또는 다른 청크를 받는 중) → 409 + 현재 offset 으로 이어 올리기
+@Getter
+public class UploadOffsetMismatchException extends RuntimeException {
+
+    private final long currentOffset;
+
+    public UploadOffsetMismatchException(String message, long currentOffset) {
+        super(message);
+        this.currentOffset = currentOffset;
+    }
+}
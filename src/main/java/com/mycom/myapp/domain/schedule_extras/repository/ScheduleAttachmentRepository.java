@@ -1,11 +1,55 @@
 package com.mycom.myapp.domain.schedule_extras.repository;
 
+import com.mycom.myapp.domain.schedule_extras.dto.AttachmentBlobRef;
 import com.mycom.myapp.domain.schedule_extras.entity.ScheduleAttachment;
+import com.mycom.myapp.domain.schedule_extras.entity.enums.ThumbnailStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface ScheduleAttachmentRepository extends JpaRepository<ScheduleAttachment, Long> {
     List<ScheduleAttachment> findBySchedule_Id(Long scheduleId);
 
+    // 썸네일 생성 대상 (PENDING + 선점이 만료된 PROCESSING, idx_attachment_thumbnail_status)
+    // 다른 워커가 잠근 행은 건너뜀 (lock.timeout -2 = SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            select a
+            from ScheduleAttachment a
+            where a.thumbnailStatus = :pending
+               or (a.thumbnailStatus = :processing and a.thumbnailLeaseUntil <= :now)
+            order by a.id asc
+            """)
+    List<ScheduleAttachment> findThumbnailTargetsForUpdate(@Param("pending") ThumbnailStatus pending,
+                                                           @Param("processing") ThumbnailStatus processing,
+                                                           @Param("now") LocalDateTime now,
+                                                           Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select a
+            from ScheduleAttachment a
+            where a.id = :id
+            """)
+    Optional<ScheduleAttachment> findForUpdate(@Param("id") Long id);
+
+    // 일정 삭제 시 저장소 정리에 필요한 경로/해시(원본 + 썸네일)만 조회 (엔티티 로딩 없음)
+    @Query("""
+            select a.gcsPath as gcsPath, a.contentHash as contentHash,
+                   a.thumbnailPath as thumbnailPath, a.thumbnailHash as thumbnailHash
+            from ScheduleAttachment a
+            where a.schedule.id = :scheduleId
+            """)
+    List<AttachmentBlobRef> findBlobRefsByScheduleId(@Param("scheduleId") Long scheduleId);
+
 }
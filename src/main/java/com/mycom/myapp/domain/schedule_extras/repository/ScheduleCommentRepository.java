@@ -1,12 +1,48 @@
 package com.mycom.myapp.domain.schedule_extras.repository;
 
 import com.mycom.myapp.domain.schedule_extras.entity.ScheduleComment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ScheduleCommentRepository extends JpaRepository<ScheduleComment, Long> {
 
-    // 일정(schedule_id) 기준으로 댓글 가져오기
-    List<ScheduleComment> findBySchedule_IdOrderByCreatedAtAsc(Long scheduleId);
+    // 일정(schedule_id) 기준으로 댓글 가져오기 (작성자 이름 N+1 방지를 위해 join fetch)
+    @Query("""
+            select c
+            from ScheduleComment c
+            join fetch c.user
+            where c.schedule.id = :scheduleId
+            order by c.createdAt asc, c.id asc
+            """)
+    List<ScheduleComment> findBySchedule_IdOrderByCreatedAtAsc(@Param("scheduleId") Long scheduleId);
+
+    // 커서 페이지 - 첫 페이지 (작성자 join fetch, idx_comment_schedule_created_id)
+    @Query("""
+            select c
+            from ScheduleComment c
+            join fetch c.user
+            where c.schedule.id = :scheduleId
+            order by c.createdAt asc, c.id asc
+            """)
+    List<ScheduleComment> findFirstPage(@Param("scheduleId") Long scheduleId, Pageable pageable);
+
+    // 커서 페이지 - (createdAt, id) 이후 댓글
+    @Query("""
+            select c
+            from ScheduleComment c
+            join fetch c.user
+            where c.schedule.id = :scheduleId
+              and (c.createdAt > :createdAt
+                   or (c.createdAt = :createdAt and c.id > :id))
+            order by c.createdAt asc, c.id asc
+            """)
+    List<ScheduleComment> findPageAfter(@Param("scheduleId") Long scheduleId,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
 }
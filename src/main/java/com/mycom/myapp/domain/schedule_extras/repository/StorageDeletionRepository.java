@@ -0,0 +1,31 @@
+package com.mycom.myapp.domain.schedule_extras.repository;
+
+import com.mycom.myapp.domain.schedule_extras.entity.StorageDeletion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface StorageDeletionRepository extends JpaRepository<StorageDeletion, Long> {
+
+    // 처리 시각이 된 항목 (재시도 한도 초과 항목은 제외, idx_storage_deletion_next_attempt)
+    @Query("""
+            select d
+            from StorageDeletion d
+            where d.nextAttemptAt <= :now
+              and d.attempts < :maxAttempts
+            order by d.nextAttemptAt asc
+            """)
+    List<StorageDeletion> findDue(@Param("now") LocalDateTime now,
+                                  @Param("maxAttempts") int maxAttempts,
+                                  Pageable pageable);
+
+    @Modifying
+    @Query("delete from StorageDeletion d where d.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
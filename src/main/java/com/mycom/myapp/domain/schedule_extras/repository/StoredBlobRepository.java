@@ -0,0 +1,42 @@
+package com.mycom.myapp.domain.schedule_extras.repository;
+
+import com.mycom.myapp.domain.schedule_extras.entity.StoredBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface StoredBlobRepository extends JpaRepository<StoredBlob, Long> {
+
+    Optional<StoredBlob> findByDigest(String digest);
+
+    // 이미 저장된 내용이면 참조 수 +1 (갱신된 row 수 반환, 0 이면 새로 업로드해야 함)
+    @Modifying
+    @Query("update StoredBlob b set b.refCount = b.refCount + 1 where b.digest = :digest")
+    int incrementRefCount(@Param("digest") String digest);
+
+    // 새로 업로드한 파일 등록, 동시에 같은 내용이 먼저 등록됐으면 그쪽 참조 수 +1 (uk_stored_blob_digest)
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            insert into stored_blobs (digest, storage_path, public_url, file_size, ref_count, created_at)
+            values (:digest, :storagePath, :publicUrl, :fileSize, 1, :createdAt)
+            on duplicate key update ref_count = ref_count + 1
+            """)
+    int insertOrIncrement(@Param("digest") String digest,
+                          @Param("storagePath") String storagePath,
+                          @Param("publicUrl") String publicUrl,
+                          @Param("fileSize") Long fileSize,
+                          @Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying
+    @Query("update StoredBlob b set b.refCount = b.refCount - 1 where b.digest = :digest and b.refCount > 0")
+    int decrementRefCount(@Param("digest") String digest);
+
+    // 참조가 없어진 경우에만 삭제 (그 사이 다시 참조되면 0 건)
+    @Modifying
+    @Query("delete from StoredBlob b where b.digest = :digest and b.refCount = 0")
+    int deleteIfUnreferenced(@Param("digest") String digest);
+}
@@ -0,0 +1,34 @@
+package com.mycom.myapp.domain.schedule_extras.repository;
+
+import com.mycom.myapp.domain.schedule_extras.entity.UploadSession;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+
+    Optional<UploadSession> findByIdAndScheduleIdAndUserId(String id, Long scheduleId, Long userId);
+
+    // complete/abort 선점용 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select s
+            from UploadSession s
+            where s.id = :id
+              and s.scheduleId = :scheduleId
+              and s.userId = :userId
+            """)
+    Optional<UploadSession> findForUpdate(@Param("id") String id,
+                                          @Param("scheduleId") Long scheduleId,
+                                          @Param("userId") Long userId);
+
+    // 만료된 세션 (idx_upload_session_expires_at)
+    List<UploadSession> findByExpiresAtBefore(LocalDateTime now, Pageable pageable);
+}
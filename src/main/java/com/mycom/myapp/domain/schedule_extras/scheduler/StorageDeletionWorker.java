@@ -0,0 +1,70 @@
+package com.mycom.myapp.domain.schedule_extras.scheduler;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.mycom.myapp.common.config.storage.StorageService;
+import com.mycom.myapp.domain.schedule_extras.entity.StorageDeletion;
+import com.mycom.myapp.domain.schedule_extras.service.StorageDeletionOutbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 저장소 삭제 outbox 처리
+ * - batch-size 단위로 꺼내서 트랜잭션 밖에서 저장소 삭제 (DB 커넥션을 잡고 원격 호출하지 않음)
+ * - 성공한 항목은 한 번에 삭제, 실패한 항목은 backoff 후 재시도
+ * - 삭제는 멱등이라 lease 만료로 두 번 처리돼도 문제 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StorageDeletionWorker {
+
+    private final StorageDeletionOutbox outbox;
+    private final StorageService storageService;
+
+    @Value("${storage.deletion.batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${storage.deletion.fixed-delay-ms:10000}")
+    public void drain() {
+        int total = 0;
+        int claimed;
+        do {
+            claimed = drainBatch(LocalDateTime.now());
+            total += claimed;
+        } while (claimed == batchSize);
+
+        if (total > 0) {
+            log.info("저장소 파일 삭제 처리: {}건", total);
+        }
+    }
+
+    int drainBatch(LocalDateTime now) {
+        List<StorageDeletion> batch = outbox.claim(now, batchSize);
+
+        List<Long> done = new ArrayList<>();
+        for (StorageDeletion deletion : batch) {
+            try {
+                storageService.deleteFile(deletion.getStoragePath());
+                done.add(deletion.getId());
+            } catch (RuntimeException e) {
+                boolean exhausted = outbox.fail(deletion.getId(), e.getMessage(), now);
+                if (exhausted) {
+                    log.error("저장소 파일 삭제 재시도 한도 초과: id={}, path={}", deletion.getId(), deletion.getStoragePath(), e);
+                } else {
+                    log.warn("저장소 파일 삭제 실패, 재시도 예정: id={}, path={}", deletion.getId(), deletion.getStoragePath(), e);
+                }
+            }
+        }
+
+        outbox.complete(done);
+        return batch.size();
+    }
+}
@@ -0,0 +1,68 @@
+package com.mycom.myapp.domain.schedule_extras.scheduler;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.mycom.myapp.domain.schedule_extras.entity.ScheduleAttachment;
+import com.mycom.myapp.domain.schedule_extras.service.ThumbnailGenerator;
+import com.mycom.myapp.domain.schedule_extras.service.ThumbnailService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업로드된 IMAGE 첨부의 썸네일 생성
+ * - 업로드 요청은 PENDING 만 기록하고 바로 응답, 생성은 여기서 batch-size 단위로
+ * - 꺼낼 때 PROCESSING 으로 선점 → 여러 인스턴스가 같은 첨부를 중복 생성하지 않음
+ * - 실패한 첨부는 FAILED 로 두고 원본 URL 사용 (재시도 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ThumbnailWorker {
+
+    private final ThumbnailService thumbnailService;
+    private final ThumbnailGenerator thumbnailGenerator;
+
+    @Value("${attachment.thumbnail.batch-size:20}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${attachment.thumbnail.fixed-delay-ms:5000}")
+    public void generatePending() {
+        int total = 0;
+        int processed;
+        do {
+            processed = processBatch(LocalDateTime.now());
+            total += processed;
+        } while (processed == batchSize);
+
+        if (total > 0) {
+            log.info("썸네일 생성 처리: {}건", total);
+        }
+    }
+
+    int processBatch(LocalDateTime now) {
+        List<ScheduleAttachment> pending = thumbnailService.claim(now, batchSize);
+
+        for (ScheduleAttachment attachment : pending) {
+            try {
+                Optional<byte[]> thumbnail = thumbnailGenerator.generate(attachment.getGcsPath(), attachment.getFileSize());
+                if (thumbnail.isPresent()) {
+                    thumbnailService.complete(attachment.getId(), thumbnail.get());
+                } else {
+                    log.warn("썸네일을 만들 수 없는 이미지: attachmentId={}", attachment.getId());
+                    thumbnailService.fail(attachment.getId());
+                }
+            } catch (Exception e) {
+                log.warn("썸네일 생성 실패: attachmentId={}", attachment.getId(), e);
+                thumbnailService.fail(attachment.getId());
+            }
+        }
+        return pending.size();
+    }
+}
@@ -0,0 +1,43 @@
+package com.mycom.myapp.domain.schedule_extras.scheduler;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.mycom.myapp.domain.schedule_extras.service.AttachmentUploadSessionService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 완료/취소되지 않고 만료된 업로드 세션과 임시 파일 정리
+ * - batch-size 단위로 트랜잭션을 나눠서 처리 (한 배치가 가득 차면 다음 배치 진행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UploadSessionCleaner {
+
+    private final AttachmentUploadSessionService uploadSessionService;
+
+    @Value("${attachment.upload-session.cleanup-batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${attachment.upload-session.cleanup-fixed-delay-ms:600000}")
+    public void cleanExpired() {
+        LocalDateTime now = LocalDateTime.now();
+
+        int total = 0;
+        int cleaned;
+        do {
+            cleaned = uploadSessionService.cleanExpired(now, batchSize);
+            total += cleaned;
+        } while (cleaned == batchSize);
+
+        if (total > 0) {
+            log.info("만료된 업로드 세션 정리: {}건", total);
+        }
+    }
+}
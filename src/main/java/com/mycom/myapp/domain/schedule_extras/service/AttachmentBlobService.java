@@ -0,0 +1,173 @@
+package com.mycom.myapp.domain.schedule_extras.service;
+
+import com.mycom.myapp.common.config.storage.StorageService;
+import com.mycom.myapp.domain.schedule_extras.dto.AttachmentBlobRef;
+import com.mycom.myapp.domain.schedule_extras.entity.StoredBlob;
+import com.mycom.myapp.domain.schedule_extras.repository.ScheduleAttachmentRepository;
+import com.mycom.myapp.domain.schedule_extras.repository.StoredBlobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 첨부 파일 내용 기준 중복 제거
+ * - 같은 SHA-256 이면 저장소 파일 하나를 StoredBlob.refCount 로 공유 (업로드 생략)
+ * - 저장소 키는 digest + 업로드마다 새 UUID → 참조가 0 이 돼서 outbox 로 지워지는 파일과 새로 올린 파일이 겹치지 않음
+ * - 호출한 쪽 트랜잭션에 참여 (첨부 row 와 참조 수가 같이 커밋/롤백)
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class AttachmentBlobService {
+
+    private final StoredBlobRepository storedBlobRepository;
+    private final ScheduleAttachmentRepository attachmentRepository;
+    private final StorageService storageService;
+    private final StorageDeletionOutbox storageDeletionOutbox;
+
+    // 저장된 내용을 재사용한 업로드 수
+    private final Counter dedupHits;
+
+    public AttachmentBlobService(StoredBlobRepository storedBlobRepository,
+                                 ScheduleAttachmentRepository attachmentRepository,
+                                 StorageService storageService,
+                                 StorageDeletionOutbox storageDeletionOutbox,
+                                 MeterRegistry meterRegistry) {
+        this.storedBlobRepository = storedBlobRepository;
+        this.attachmentRepository = attachmentRepository;
+        this.storageService = storageService;
+        this.storageDeletionOutbox = storageDeletionOutbox;
+        this.dedupHits = Counter.builder("attachment.upload.dedup")
+                .description("같은 내용이 이미 저장돼 있어 업로드를 생략한 수")
+                .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    public interface ContentSource {
+        InputStream open() throws IOException;
+    }
+
+    // 아직 StoredBlob 으로 등록하지 않은, 저장소에 올리기만 한 파일
+    public record UploadedContent(String storagePath, String publicUrl) {}
+
+    /**
+     * digest 내용의 저장소 파일을 참조 (+1)
+     * - 이미 있으면 업로드 없이 기존 파일 반환
+     * - 없으면 업로드 후 등록, 그 사이 같은 내용이 먼저 등록됐으면 방금 올린 파일은 outbox 로 삭제하고 먼저 등록된 쪽 사용
+     * - 업로드가 트랜잭션 안(digest 갭 락을 잡은 채)에서 일어나므로 첨부 원본은 uploadIfAbsent + register 사용
+     */
+    public StoredBlob acquire(String digest, Long fileSize, String contentType, String originalName,
+                              ContentSource content) throws IOException {
+        if (storedBlobRepository.incrementRefCount(digest) > 0) {
+            dedupHits.increment();
+            return findByDigest(digest);
+        }
+
+        return register(digest, fileSize, upload(digest, contentType, originalName, content));
+    }
+
+    /**
+     * 트랜잭션 밖에서 저장소에 먼저 올림 (큰 파일 업로드 동안 DB 커넥션을 잡지 않도록)
+     * - 같은 내용이 이미 등록돼 있으면 올리지 않고 empty → 이후 acquire 가 참조 수만 증가
+     * - 올린 파일은 register 로 등록하거나, 실패 시 discard 로 삭제 요청해야 함
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<UploadedContent> uploadIfAbsent(String digest, String contentType, String originalName,
+                                                    ContentSource content) throws IOException {
+        if (storedBlobRepository.findByDigest(digest).isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of(upload(digest, contentType, originalName, content));
+    }
+
+    // 먼저 올린 파일을 digest 로 등록 (+1), 그 사이 같은 내용이 먼저 등록됐으면 올린 파일은 outbox 로 삭제
+    public StoredBlob register(String digest, Long fileSize, UploadedContent uploaded) {
+        storedBlobRepository.insertOrIncrement(digest, uploaded.storagePath(), uploaded.publicUrl(), fileSize,
+                LocalDateTime.now());
+
+        StoredBlob blob = findByDigest(digest);
+        if (!blob.getStoragePath().equals(uploaded.storagePath())) {
+            storageDeletionOutbox.enqueue(uploaded.storagePath());
+        }
+        return blob;
+    }
+
+    // 올렸지만 등록하지 못한 파일 삭제 요청
+    public void discard(UploadedContent uploaded) {
+        storageDeletionOutbox.enqueue(uploaded.storagePath());
+    }
+
+    // 첨부 하나의 참조 해제, 마지막 참조였으면 저장소 파일 삭제 요청
+    public void release(String digest, String storagePath) {
+        if (digest == null) {
+            // 중복 제거 이전 첨부는 파일을 혼자 씀
+            storageDeletionOutbox.enqueue(storagePath);
+            return;
+        }
+        storedBlobRepository.decrementRefCount(digest);
+        if (storedBlobRepository.deleteIfUnreferenced(digest) > 0) {
+            storageDeletionOutbox.enqueue(storagePath);
+        }
+    }
+
+    // 일정 삭제 시 cascade 로 지워지는 첨부들의 참조 해제
+    public void releaseBySchedule(Long scheduleId) {
+        for (AttachmentBlobRef ref : attachmentRepository.findBlobRefsByScheduleId(scheduleId)) {
+            release(ref.getContentHash(), ref.getGcsPath());
+            if (ref.getThumbnailPath() != null) {
+                release(ref.getThumbnailHash(), ref.getThumbnailPath());
+            }
+        }
+    }
+
+    // 업로드 전에 로컬(멀티파트 임시 파일/메모리)에서 내용 해시 계산
+    public static String sha256Hex(InputStream in) throws IOException {
+        try {
+            DigestInputStream digestIn = new DigestInputStream(in, MessageDigest.getInstance("SHA-256"));
+            digestIn.transferTo(OutputStream.nullOutputStream());
+            return HexFormat.of().formatHex(digestIn.getMessageDigest().digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private UploadedContent upload(String digest, String contentType, String originalName,
+                                   ContentSource content) throws IOException {
+        String fileName = digest + "_" + UUID.randomUUID() + extensionOf(originalName);
+        String storagePath;
+        try (InputStream in = content.open()) {
+            storagePath = storageService.uploadFile(fileName, in, contentType);
+        }
+        return new UploadedContent(storagePath, storageService.getPublicUrl(fileName));
+    }
+
+    private StoredBlob findByDigest(String digest) {
+        return storedBlobRepository.findByDigest(digest)
+                .orElseThrow(() -> new IllegalStateException("저장된 파일 정보를 찾을 수 없습니다: " + digest));
+    }
+
+    // 로컬 저장소 서빙 시 content-type 추론용으로 확장자만 유지
+    private String extensionOf(String originalName) {
+        if (originalName == null) {
+            return "";
+        }
+        int dot = originalName.lastIndexOf('.');
+        if (dot < 0 || dot == originalName.length() - 1) {
+            return "";
+        }
+        String ext = originalName.substring(dot).toLowerCase();
+        return ext.matches("\\.[a-z0-9]{1,10}") ? ext : "";
+    }
+}
@@ -0,0 +1,26 @@
+package com.mycom.myapp.domain.schedule_extras.service;
+
+import com.mycom.myapp.domain.schedule_extras.dto.AttachmentResponseDto;
+import com.mycom.myapp.domain.schedule_extras.dto.UploadSessionInitRequest;
+import com.mycom.myapp.domain.schedule_extras.dto.UploadSessionResponse;
+import com.mycom.myapp.domain.schedule_extras.entity.enums.FileType;
+
+import java.io.InputStream;
+import java.time.LocalDateTime;
+
+public interface AttachmentUploadSessionService {
+
+    UploadSessionResponse init(Long scheduleId, Long userId, FileType fileType, UploadSessionInitRequest request);
+
+    UploadSessionResponse getStatus(Long scheduleId, String uploadId, Long userId);
+
+    // offset 위치에 청크를 이어 붙이고 새 offset 반환 (offset 이 다르면 UploadOffsetMismatchException)
+    UploadSessionResponse appendChunk(Long scheduleId, String uploadId, Long userId, long offset, InputStream chunk);
+
+    AttachmentResponseDto complete(Long scheduleId, String uploadId, Long userId);
+
+    void abort(Long scheduleId, String uploadId, Long userId);
+
+    // 만료된 세션과 임시 파일 정리, 정리한 건수 반환
+    int cleanExpired(LocalDateTime now, int batchSize);
+}
@@ -0,0 +1,294 @@
+package com.mycom.myapp.domain.schedule_extras.service;
+
+import com.mycom.myapp.domain.schedule.repository.ScheduleRepository;
+import com.mycom.myapp.domain.schedule_extras.dto.AttachmentResponseDto;
+import com.mycom.myapp.domain.schedule_extras.dto.UploadSessionInitRequest;
+import com.mycom.myapp.domain.schedule_extras.dto.UploadSessionResponse;
+import com.mycom.myapp.domain.schedule_extras.entity.UploadSession;
+import com.mycom.myapp.domain.schedule_extras.entity.enums.FileType;
+import com.mycom.myapp.domain.schedule_extras.exception.UploadOffsetMismatchException;
+import com.mycom.myapp.domain.schedule_extras.repository.UploadSessionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 이어 올리기(청크) 업로드
+ * - init     : 세션 row + 빈 임시 파일 생성
+ * - chunk    : offset 이 임시 파일 크기와 같을 때만 이어 붙임 (연결이 끊겨도 받은 데까지는 남음 → status 로 offset 확인 후 재개)
+ * - complete : 세션 선점 → (트랜잭션 밖) 임시 파일 해시, 저장소에 올림(같은 내용이면 생략) → 짧은 트랜잭션으로 첨부 생성
+ * - 임시 파일은 이 서버 디스크에 있으므로 여러 대로 띄울 때는 같은 업로드 id 요청이 같은 서버로 가야 함
+ */
+@Service
+@Transactional
+public class AttachmentUploadSessionServiceImpl implements AttachmentUploadSessionService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleAttachmentService attachmentService;
+    private final UploadSessionFinalizer finalizer;
+
+    private final Path tempDir;
+    private final long maxFileSize;
+    private final long maxChunkSize;
+    private final long ttlHours;
+
+    public AttachmentUploadSessionServiceImpl(UploadSessionRepository uploadSessionRepository,
+                                              ScheduleRepository scheduleRepository,
+                                              ScheduleAttachmentService attachmentService,
+                                              UploadSessionFinalizer finalizer,
+                                              @Value("${attachment.upload-session.temp-dir:${java.io.tmpdir}/upload-sessions}") String tempDir,
+                                              @Value("${attachment.upload-session.max-file-size:209715200}") long maxFileSize,
+                                              @Value("${attachment.upload-session.max-chunk-size:8388608}") long maxChunkSize,
+                                              @Value("${attachment.upload-session.ttl-hours:24}") long ttlHours) throws IOException {
+        this.uploadSessionRepository = uploadSessionRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.attachmentService = attachmentService;
+        this.finalizer = finalizer;
+        this.tempDir = Paths.get(tempDir).toAbsolutePath().normalize();
+        this.maxFileSize = maxFileSize;
+        this.maxChunkSize = maxChunkSize;
+        this.ttlHours = ttlHours;
+        Files.createDirectories(this.tempDir);
+    }
+
+    @Override
+    public UploadSessionResponse init(Long scheduleId, Long userId, FileType fileType, UploadSessionInitRequest request) {
+        if (!scheduleRepository.existsById(scheduleId)) {
+            throw new IllegalArgumentException("일정을 찾을 수 없습니다.");
+        }
+        if (request.getTotalSize() <= 0) {
+            throw new IllegalArgumentException("파일이 비어있습니다.");
+        }
+        if (request.getTotalSize() > maxFileSize) {
+            throw new IllegalArgumentException("파일 크기가 허용 범위를 넘었습니다. max=" + maxFileSize);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        UploadSession session = UploadSession.builder()
+                .id(UUID.randomUUID().toString())
+                .scheduleId(scheduleId)
+                .userId(userId)
+                .fileType(fileType)
+                .originalName(request.getFileName())
+                .contentType(request.getContentType())
+                .totalSize(request.getTotalSize())
+                .createdAt(now)
+                .expiresAt(now.plusHours(ttlHours))
+                .build();
+
+        try {
+            Files.createFile(partFile(session.getId()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("업로드 임시 파일을 만들 수 없습니다.", e);
+        }
+        // 세션 row 가 롤백되면 임시 파일도 정리
+        deleteTempFileOnRollback(session.getId());
+
+        uploadSessionRepository.save(session);
+        return UploadSessionResponse.from(session, 0, maxChunkSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UploadSessionResponse getStatus(Long scheduleId, String uploadId, Long userId) {
+        UploadSession session = findSession(scheduleId, uploadId, userId);
+        return UploadSessionResponse.from(session, receivedBytes(session), maxChunkSize);
+    }
+
+    // 청크를 받는 동안 DB 커넥션을 잡지 않음 (세션 조회만 짧게)
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UploadSessionResponse appendChunk(Long scheduleId, String uploadId, Long userId, long offset, InputStream chunk) {
+        UploadSession session = findSession(scheduleId, uploadId, userId);
+
+        try (FileChannel channel = FileChannel.open(partFile(session.getId()), StandardOpenOption.WRITE)) {
+            FileLock lock = tryLock(channel);
+            if (lock == null) {
+                throw new UploadOffsetMismatchException("같은 업로드의 다른 청크를 받는 중입니다.", channel.size());
+            }
+            try {
+                long current = channel.size();
+                if (offset != current) {
+                    throw new UploadOffsetMismatchException(
+                            "청크 위치가 맞지 않습니다. offset=" + offset + ", expected=" + current, current);
+                }
+
+                long limit = Math.min(maxChunkSize, session.getTotalSize() - current);
+                long written = append(channel, current, chunk, limit);
+                return UploadSessionResponse.from(session, current + written, maxChunkSize);
+            } finally {
+                lock.release();
+            }
+        } catch (IOException e) {
+            // 연결이 끊겨도 이미 쓴 부분은 남음 → 클라이언트는 status 로 offset 을 받아 이어서 전송
+            throw new UncheckedIOException("청크 저장 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    // 해시/저장소 업로드(최대 max-file-size)는 DB 커넥션 없이, DB 작업은 finalizer 의 짧은 트랜잭션으로
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AttachmentResponseDto complete(Long scheduleId, String uploadId, Long userId) {
+        UploadSession session = finalizer.claim(scheduleId, uploadId, userId, LocalDateTime.now());
+        Path part = partFile(session.getId());
+        AttachmentBlobService.ContentSource content = () -> Files.newInputStream(part);
+
+        AttachmentBlobService.UploadedContent uploaded = null;
+        AttachmentResponseDto response;
+        try {
+            long received = Files.size(part);
+            if (received != session.getTotalSize()) {
+                throw new UploadOffsetMismatchException(
+                        "아직 모든 청크를 받지 않았습니다. received=" + received + ", total=" + session.getTotalSize(), received);
+            }
+
+            String digest;
+            try (InputStream in = content.open()) {
+                digest = AttachmentBlobService.sha256Hex(in);
+            }
+
+            uploaded = attachmentService.preUpload(digest, session.getOriginalName(), session.getContentType(), content)
+                    .orElse(null);
+            response = finalizer.finish(session, received, digest, uploaded, content);
+        } catch (IOException e) {
+            finalizer.release(session.getId(), uploaded);
+            throw new UncheckedIOException("파일 업로드 중 오류가 발생했습니다.", e);
+        } catch (RuntimeException e) {
+            // 선점 해제 → 임시 파일은 그대로라 complete 재시도 가능
+            finalizer.release(session.getId(), uploaded);
+            throw e;
+        }
+
+        // finish 가 커밋된 뒤라 바로 삭제
+        deleteQuietly(session.getId());
+        return response;
+    }
+
+    @Override
+    public void abort(Long scheduleId, String uploadId, Long userId) {
+        UploadSession session = uploadSessionRepository.findForUpdate(uploadId, scheduleId, userId)
+                .orElseThrow(() -> new IllegalArgumentException("업로드 세션을 찾을 수 없습니다: " + uploadId));
+        if (session.isCompleting(LocalDateTime.now())) {
+            throw new IllegalStateException("완료 처리 중인 업로드는 취소할 수 없습니다: " + uploadId);
+        }
+        uploadSessionRepository.delete(session);
+        deleteTempFileAfterCommit(session.getId());
+    }
+
+    @Override
+    public int cleanExpired(LocalDateTime now, int batchSize) {
+        List<UploadSession> expired = uploadSessionRepository.findByExpiresAtBefore(now, PageRequest.of(0, batchSize));
+        int cleaned = 0;
+        for (UploadSession session : expired) {
+            // 완료 처리 중이면 선점이 끝난 뒤 다음 정리 때 (건너뛴 건은 세지 않음 → 정리 루프가 끝남)
+            if (session.isCompleting(now)) {
+                continue;
+            }
+            uploadSessionRepository.delete(session);
+            deleteTempFileAfterCommit(session.getId());
+            cleaned++;
+        }
+        return cleaned;
+    }
+
+    // 만료된 세션은 없는 것으로 취급
+    private UploadSession findSession(Long scheduleId, String uploadId, Long userId) {
+        return uploadSessionRepository.findByIdAndScheduleIdAndUserId(uploadId, scheduleId, userId)
+                .filter(s -> s.getExpiresAt().isAfter(LocalDateTime.now()))
+                .orElseThrow(() -> new IllegalArgumentException("업로드 세션을 찾을 수 없습니다: " + uploadId));
+    }
+
+    private long receivedBytes(UploadSession session) {
+        try {
+            return Files.size(partFile(session.getId()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("업로드 임시 파일을 읽을 수 없습니다.", e);
+        }
+    }
+
+    // limit 바이트까지만 받음, 넘치면 이번 청크를 버리고(원래 크기로 되돌림) 예외
+    private long append(FileChannel channel, long position, InputStream chunk, long limit) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long written = 0;
+        int read;
+        while ((read = chunk.read(buffer)) != -1) {
+            if (written + read > limit) {
+                channel.truncate(position);
+                throw new IllegalArgumentException("청크 크기가 허용 범위를 넘었습니다. max=" + limit);
+            }
+            ByteBuffer bytes = ByteBuffer.wrap(buffer, 0, read);
+            while (bytes.hasRemaining()) {
+                written += channel.write(bytes, position + written);
+            }
+        }
+        return written;
+    }
+
+    // 다른 프로세스가 잡고 있으면 null, 같은 JVM 의 다른 요청이 잡고 있으면 OverlappingFileLockException
+    private FileLock tryLock(FileChannel channel) throws IOException {
+        try {
+            return channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            return null;
+        }
+    }
+
+    private Path partFile(String uploadId) {
+        return tempDir.resolve(uploadId + ".part");
+    }
+
+    private void deleteTempFileAfterCommit(String uploadId) {
+        runAfterCompletion(uploadId, TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    private void deleteTempFileOnRollback(String uploadId) {
+        runAfterCompletion(uploadId, TransactionSynchronization.STATUS_ROLLED_BACK);
+    }
+
+    private void runAfterCompletion(String uploadId, int deleteOnStatus) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (deleteOnStatus == TransactionSynchronization.STATUS_COMMITTED) {
+                deleteQuietly(uploadId);
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == deleteOnStatus) {
+                    deleteQuietly(uploadId);
+                }
+            }
+        });
+    }
+
+    private void deleteQuietly(String uploadId) {
+        try {
+            Files.deleteIfExists(partFile(uploadId));
+        } catch (IOException ignored) {
+            // 임시 디렉터리라 삭제 실패는 무시
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.mycom.myapp.domain.schedule_extras.service;
+
+import com.mycom.myapp.domain.schedule.repository.ScheduleRepository;
+import com.mycom.myapp.domain.schedule_extras.dto.AttachmentRequestDto;
+import com.mycom.myapp.domain.schedule_extras.dto.AttachmentResponseDto;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 멀티파트 첨부 업로드 (ScheduleAttachmentController 전용)
+ * - 해시 계산/저장소 업로드는 트랜잭션 밖에서 → 원격 업로드 동안 stored_blob 행/갭 락과 DB 커넥션을 잡지 않음
+ * - 참조 등록 + 첨부 row 생성은 ScheduleAttachmentService.completeUpload 의 짧은 트랜잭션 하나로
+ * - 업로드 세션 complete 와 같은 흐름 (preUpload → completeUpload, 실패 시 올린 파일 삭제 요청)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class MultipartAttachmentUploader {
+
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleAttachmentService attachmentService;
+
+    @Timed(value = "attachment.upload", description = "첨부 업로드 처리 시간", histogram = true)
+    public AttachmentResponseDto upload(Long scheduleId, Long userId, AttachmentRequestDto dto) {
+        MultipartFile file = dto.getFile();
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("파일이 비어있습니다.");
+        }
+
+        // 없는 일정이면 저장소에 올리기 전에 거절
+        if (!scheduleRepository.existsById(scheduleId)) {
+            throw new IllegalArgumentException("일정을 찾을 수 없습니다.");
+        }
+
+        AttachmentBlobService.ContentSource content = file::getInputStream;
+        AttachmentBlobService.UploadedContent uploaded = null;
+        try {
+            // 멀티파트 파일은 이미 로컬(메모리/임시 파일)에 있으므로 먼저 해시 → 같은 내용이면 업로드 생략
+            String digest;
+            try (InputStream in = content.open()) {
+                digest = AttachmentBlobService.sha256Hex(in);
+            }
+
+            uploaded = attachmentService.preUpload(digest, file.getOriginalFilename(), file.getContentType(), content)
+                    .orElse(null);
+            return attachmentService.completeUpload(scheduleId, userId, dto.getFileType(),
+                    file.getOriginalFilename(), file.getContentType(), file.getSize(), digest, uploaded, content);
+        } catch (IOException e) {
+            discard(uploaded);
+            throw new RuntimeException("파일 업로드 중 오류가 발생했습니다.", e);
+        } catch (RuntimeException e) {
+            discard(uploaded);
+            throw e;
+        }
+    }
+
+    // completeUpload 가 롤백됐으면 올린 파일은 어디에도 등록되지 않음
+    private void discard(AttachmentBlobService.UploadedContent uploaded) {
+        if (uploaded != null) {
+            attachmentService.discardUpload(uploaded);
+        }
+    }
+}
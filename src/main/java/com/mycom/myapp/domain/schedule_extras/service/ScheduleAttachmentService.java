@@ -1,15 +1,39 @@
 package com.mycom.myapp.domain.schedule_extras.service;
 
-import com.mycom.myapp.domain.schedule_extras.dto.AttachmentRequestDto;
+import com.mycom.myapp.domain.schedule_extras.dto.AttachmentDownload;
 import com.mycom.myapp.domain.schedule_extras.dto.AttachmentResponseDto;
+import com.mycom.myapp.domain.schedule_extras.entity.enums.FileType;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Optional;
 
 public interface ScheduleAttachmentService {
 
-    AttachmentResponseDto uploadAttachment(Long scheduleId, Long userId, AttachmentRequestDto dto);
+    // 트랜잭션 밖에서 호출: 같은 내용이 아직 없으면 저장소에 먼저 올림 (멀티파트 업로드/업로드 세션 완료 전 단계)
+    Optional<AttachmentBlobService.UploadedContent> preUpload(String digest, String originalName, String contentType,
+                                                              AttachmentBlobService.ContentSource content) throws IOException;
+
+    // preUpload 로 올렸지만 첨부를 만들지 못한 파일 삭제 요청
+    void discardUpload(AttachmentBlobService.UploadedContent uploaded);
+
+    // 이미 로컬에 있는 파일(멀티파트/업로드 세션)로 첨부 생성, digest 는 내용 SHA-256
+    // uploaded 가 있으면 등록만, 없으면 기존 내용 참조 (그 사이 지워졌으면 content 로 다시 업로드)
+    AttachmentResponseDto completeUpload(Long scheduleId, Long userId, FileType fileType, String originalName,
+                                         String contentType, long fileSize, String digest,
+                                         AttachmentBlobService.UploadedContent uploaded,
+                                         AttachmentBlobService.ContentSource content) throws IOException;
+
+    // preUpload 로 올렸지만 첨부를 만들지 못한 파일 삭제 요청
+    void discardUpload(AttachmentBlobService.UploadedContent uploaded);
 
     List<AttachmentResponseDto> getAttachments(Long scheduleId);
 
     void deleteAttachment(Long id, Long userId);
+
+    AttachmentDownload getDownload(Long scheduleId, Long attachmentId);
+
+    // [position, position + count) 구간을 out 으로 전송 (트랜잭션 밖에서 호출)
+    void writeContent(AttachmentDownload download, long position, long count, OutputStream out) throws IOException;
 }
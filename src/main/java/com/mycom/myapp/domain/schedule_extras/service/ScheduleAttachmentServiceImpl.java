@@ -1,109 +1,93 @@
 package com.mycom.myapp.domain.schedule_extras.service;
 
-import com.mycom.myapp.common.config.storage.GcpStorageService;
+import com.mycom.myapp.common.config.storage.StorageService;
 import com.mycom.myapp.domain.schedule.entity.Schedule;
 import com.mycom.myapp.domain.schedule.repository.ScheduleRepository;
-import com.mycom.myapp.domain.schedule_extras.dto.AttachmentRequestDto;
+import com.mycom.myapp.domain.schedule_extras.dto.AttachmentDownload;
 import com.mycom.myapp.domain.schedule_extras.dto.AttachmentResponseDto;
 import com.mycom.myapp.domain.schedule_extras.entity.ScheduleAttachment;
+import com.mycom.myapp.domain.schedule_extras.entity.StoredBlob;
+import com.mycom.myapp.domain.schedule_extras.entity.enums.FileType;
+import com.mycom.myapp.domain.schedule_extras.entity.enums.ThumbnailStatus;
 import com.mycom.myapp.domain.schedule_extras.repository.ScheduleAttachmentRepository;
 import com.mycom.myapp.domain.user.entity.User;
 import com.mycom.myapp.domain.user.repository.UserRepository;
-import org.springframework.beans.factory.annotation.Value;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.time.ZoneId;
 import java.util.List;
-import java.util.UUID;
+import java.util.Optional;
 
 
 @Service
-@RequiredArgsConstructor
 @Transactional
 public class ScheduleAttachmentServiceImpl implements ScheduleAttachmentService {
 
     private final ScheduleAttachmentRepository attachmentRepository;
     private final ScheduleRepository scheduleRepository;
     private final UserRepository userRepository;
-    private final GcpStorageService gcpStorageService;
+    private final AttachmentBlobService attachmentBlobService;
+    private final StorageService storageService;
+
+    // 업로드 크기 분포
+    private final DistributionSummary uploadBytes;
+
+    public ScheduleAttachmentServiceImpl(ScheduleAttachmentRepository attachmentRepository,
+                                         ScheduleRepository scheduleRepository,
+                                         UserRepository userRepository,
+                                         AttachmentBlobService attachmentBlobService,
+                                         StorageService storageService,
+                                         MeterRegistry meterRegistry) {
+        this.attachmentRepository = attachmentRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.userRepository = userRepository;
+        this.attachmentBlobService = attachmentBlobService;
+        this.storageService = storageService;
+        this.uploadBytes = DistributionSummary.builder("attachment.upload.bytes")
+                .description("첨부 업로드 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
 
-    @Value("${gcp.bucket}")
-    private String bucketName;
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<AttachmentBlobService.UploadedContent> preUpload(String digest, String originalName, String contentType,
+                                                                     AttachmentBlobService.ContentSource content) throws IOException {
+        return attachmentBlobService.uploadIfAbsent(digest, contentTypeOf(contentType),
+                toSafeFileName(originalNameOf(originalName)), content);
+    }
 
     @Override
-    public AttachmentResponseDto uploadAttachment(Long scheduleId, Long userId, AttachmentRequestDto dto) {
-        // 일정 조회
+    @Transactional(rollbackFor = IOException.class)
+    public AttachmentResponseDto completeUpload(Long scheduleId, Long userId, FileType fileType, String originalName,
+                                                String contentType, long fileSize, String digest,
+                                                AttachmentBlobService.UploadedContent uploaded,
+                                                AttachmentBlobService.ContentSource content) throws IOException {
         Schedule schedule = scheduleRepository.findById(scheduleId)
                 .orElseThrow(() -> new IllegalArgumentException("일정을 찾을 수 없습니다."));
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        MultipartFile file = dto.getFile();
+        String name = originalNameOf(originalName);
+        String type = contentTypeOf(contentType);
+        StoredBlob blob = uploaded != null
+                ? attachmentBlobService.register(digest, fileSize, uploaded)
+                : attachmentBlobService.acquire(digest, fileSize, type, toSafeFileName(name), content);
 
-        if (file.isEmpty()) {
-            throw new IllegalArgumentException("파일이 비어있습니다.");
-        }
-
-        try {
-            // 파일 바이트 읽기
-            byte[] bytes = file.getBytes();
-
-            // GCP 업로드용 파일명 생성
-            String fileName = UUID.randomUUID() + "_" + file.getOriginalFilename();
-
-            String gcsPath = gcpStorageService.uploadFile(
-                    fileName,
-                    bytes,
-                    file.getContentType()
-            );
-
-//            String gcsPath = "attachments/" + fileName;
-//
-//            // gcp 업로드
-//            gcpStorageService.uploadFile(
-//                    gcsPath,
-//                    bytes,
-//                    file.getContentType()
-//            );
-
-            // 프론트 이미지 미리보기를 위한 url
-            String url = "https://storage.googleapis.com/" + bucketName + "/" + fileName;
-
-
-            String originalName = file.getOriginalFilename() != null ? file.getOriginalFilename() : "unknown";
-            String contentType = file.getContentType() != null ? file.getContentType() : "application/octet-stream";
-
-            ScheduleAttachment attachment = ScheduleAttachment.builder()
-                    .schedule(schedule)
-                    .user(user)
-                    .fileType(dto.getFileType())
-                    .fileUrl(url)
-                    .gcsPath(gcsPath)
-                    .originalName(originalName)
-                    .fileSize(file.getSize())
-                    .contentType(contentType)
-                    .build();
-
-            ScheduleAttachment saved = attachmentRepository.save(attachment);
-
-            return AttachmentResponseDto.builder()
-                    .id(saved.getId())
-                    .scheduleId(scheduleId)
-                    .fileType(saved.getFileType())
-                    .fileUrl(saved.getFileUrl())
-                    .originalName(saved.getOriginalName())
-                    .fileSize(saved.getFileSize())
-                    .contentType(saved.getContentType())
-                    .createdAt(saved.getCreatedAt())
-                    .build();
-        } catch (IOException e) {
-            throw new RuntimeException("파일 업로드 중 오류가 발생했습니다.", e);
-        }
+        return createAttachment(schedule, user, fileType, name, type, fileSize, digest, blob);
+    }
 
+    @Override
+    public void discardUpload(AttachmentBlobService.UploadedContent uploaded) {
+        attachmentBlobService.discard(uploaded);
     }
 
     @Override
@@ -117,6 +101,7 @@ public class ScheduleAttachmentServiceImpl implements ScheduleAttachmentService
                         .scheduleId(scheduleId)
                         .fileType(a.getFileType())
                         .fileUrl(a.getFileUrl())
+                        .thumbnailUrl(a.getThumbnailUrl())
                         .originalName(a.getOriginalName())
                         .fileSize(a.getFileSize())
                         .contentType(a.getContentType())
@@ -135,10 +120,93 @@ public class ScheduleAttachmentServiceImpl implements ScheduleAttachmentService
         throw new IllegalArgumentException("자신이 업로드한 파일만 삭제할 수 있습니다");
     }
 
-    // gcp 에서 파일 삭제
-        gcpStorageService.deleteFile(attachment.getGcsPath());
+    // 같은 내용을 쓰는 첨부가 더 없을 때만 저장소 삭제 (outbox → 커밋된 뒤 StorageDeletionWorker 가 처리)
+        attachmentBlobService.release(attachment.getContentHash(), attachment.getGcsPath());
+        if (attachment.getThumbnailPath() != null) {
+            attachmentBlobService.release(attachment.getThumbnailHash(), attachment.getThumbnailPath());
+        }
 
     // db 에서 파일 삭제
         attachmentRepository.delete(attachment);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AttachmentDownload getDownload(Long scheduleId, Long attachmentId) {
+        ScheduleAttachment attachment = attachmentRepository.findById(attachmentId)
+                .filter(a -> a.getSchedule() != null && a.getSchedule().getId().equals(scheduleId))
+                .orElseThrow(() -> new IllegalArgumentException("첨부파일을 찾을 수 없습니다"));
+
+        // 내용 해시가 있으면 그대로 ETag, 중복 제거 이전 첨부는 id + 크기 (첨부는 수정되지 않음)
+        String etag = attachment.getContentHash() != null
+                ? "\"" + attachment.getContentHash() + "\""
+                : "\"a" + attachment.getId() + "-" + attachment.getFileSize() + "\"";
+
+        return AttachmentDownload.builder()
+                .attachmentId(attachment.getId())
+                .storagePath(attachment.getGcsPath())
+                .fileSize(attachment.getFileSize() != null ? attachment.getFileSize() : 0L)
+                .contentType(attachment.getContentType())
+                .originalName(attachment.getOriginalName())
+                .etag(etag)
+                .lastModified(attachment.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant())
+                .build();
+    }
+
+    // 원격 저장소 읽기 동안 DB 커넥션을 잡지 않음
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writeContent(AttachmentDownload download, long position, long count, OutputStream out) throws IOException {
+        storageService.transferTo(download.getStoragePath(), position, count, Channels.newChannel(out));
+    }
+
+    // 참조한 저장소 파일로 첨부 row 생성 (멀티파트 업로드/업로드 세션 완료 공통)
+    private AttachmentResponseDto createAttachment(Schedule schedule, User user, FileType fileType,
+                                                   String originalName, String contentType, long fileSize,
+                                                   String digest, StoredBlob blob) {
+        ScheduleAttachment attachment = ScheduleAttachment.builder()
+                .schedule(schedule)
+                .user(user)
+                .fileType(fileType)
+                // 프론트 이미지 미리보기를 위한 url
+                .fileUrl(blob.getPublicUrl())
+                .gcsPath(blob.getStoragePath())
+                .contentHash(digest)
+                // 이미지는 ThumbnailWorker 가 업로드 후 썸네일 생성
+                .thumbnailStatus(fileType == FileType.IMAGE ? ThumbnailStatus.PENDING : null)
+                .originalName(originalName)
+                .fileSize(fileSize)
+                .contentType(contentType)
+                .build();
+
+        ScheduleAttachment saved = attachmentRepository.save(attachment);
+        uploadBytes.record(fileSize);
+
+        return AttachmentResponseDto.builder()
+                .id(saved.getId())
+                .scheduleId(schedule.getId())
+                .fileType(saved.getFileType())
+                .fileUrl(saved.getFileUrl())
+                .thumbnailUrl(saved.getThumbnailUrl())
+                .originalName(saved.getOriginalName())
+                .fileSize(saved.getFileSize())
+                .contentType(saved.getContentType())
+                .createdAt(saved.getCreatedAt())
+                .build();
+    }
+
+    private String originalNameOf(String originalFilename) {
+        return originalFilename != null ? originalFilename : "unknown";
+    }
+
+    private String contentTypeOf(String contentTypeHeader) {
+        return contentTypeHeader != null ? contentTypeHeader : "application/octet-stream";
+    }
+
+    private String toSafeFileName(String originalFilename) {
+        if (originalFilename == null || originalFilename.isBlank()) {
+            return "unknown";
+        }
+        return originalFilename.replaceAll("[\\\\/]", "_");
+    }
 }
@@ -1,5 +1,6 @@
 package com.mycom.myapp.domain.schedule_extras.service;
 
+import com.mycom.myapp.common.dto.CursorResponse;
 import com.mycom.myapp.domain.schedule_extras.dto.ScheduleCommentResponse;
 
 import java.util.List;
@@ -10,6 +11,8 @@ public interface ScheduleCommentService {
 
     List<ScheduleCommentResponse> getComments(Long scheduleId);
 
+    CursorResponse<ScheduleCommentResponse> getCommentPage(Long scheduleId, String cursor, int size);
+
     ScheduleCommentResponse updateComment(Long scheduleId, Long commentId, Long userId, String content);
 
     void deleteComment(Long scheduleId, Long commentId, Long userId);
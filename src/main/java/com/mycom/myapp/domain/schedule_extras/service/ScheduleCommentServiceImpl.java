@@ -1,12 +1,15 @@
 package com.mycom.myapp.domain.schedule_extras.service;
 
+import com.mycom.myapp.common.dto.CursorResponse;
 import com.mycom.myapp.domain.schedule.entity.Schedule;
 import com.mycom.myapp.domain.schedule.repository.ScheduleRepository;
+import com.mycom.myapp.domain.schedule_extras.dto.CommentCursor;
 import com.mycom.myapp.domain.schedule_extras.dto.ScheduleCommentResponse;
 import com.mycom.myapp.domain.schedule_extras.entity.ScheduleComment;
 import com.mycom.myapp.domain.schedule_extras.repository.ScheduleCommentRepository;
 import com.mycom.myapp.domain.user.entity.User;
 import com.mycom.myapp.domain.user.repository.UserRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
@@ -20,6 +23,8 @@ import java.util.List;
 @Transactional
 public class ScheduleCommentServiceImpl implements ScheduleCommentService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ScheduleCommentRepository commentRepository;
     private final ScheduleRepository scheduleRepository;
     private final UserRepository userRepository;
@@ -68,6 +73,38 @@ public class ScheduleCommentServiceImpl implements ScheduleCommentService {
                 .toList();
     }
 
+    /**
+     * 댓글 커서 페이지 조회
+     * - (createdAt, id) 오름차순, cursor 이후 size 개
+     * - 작성자 이름은 join fetch 로 한 번에 조회 (N+1 없음)
+     * - size + 1 개를 조회해서 다음 페이지 여부 판단
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<ScheduleCommentResponse> getCommentPage(Long scheduleId, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size 는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<ScheduleComment> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = commentRepository.findFirstPage(scheduleId, limit);
+        } else {
+            CommentCursor after = CommentCursor.decode(cursor);
+            rows = commentRepository.findPageAfter(scheduleId, after.getCreatedAt(), after.getId(), limit);
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<ScheduleComment> page = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorResponse.<ScheduleCommentResponse>builder()
+                .content(page.stream().map(ScheduleCommentResponse::fromEntity).toList())
+                .nextCursor(hasNext ? CommentCursor.encode(page.get(page.size() - 1)) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
     @Override
     public ScheduleCommentResponse updateComment(Long scheduleId, Long commentId, Long userId, String content) {
         ScheduleComment comment = commentRepository.findById(commentId)
@@ -0,0 +1,92 @@
+package com.mycom.myapp.domain.schedule_extras.service;
+
+import com.mycom.myapp.domain.schedule_extras.entity.StorageDeletion;
+import com.mycom.myapp.domain.schedule_extras.repository.StorageDeletionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 저장소 파일 삭제 outbox
+ * - enqueue: 호출한 쪽 트랜잭션에 참여해야 함 (MANDATORY) → DB 삭제와 삭제 요청이 같이 커밋/롤백
+ * - claim / complete / fail: StorageDeletionWorker 전용, 각각 짧은 트랜잭션 (저장소 호출은 트랜잭션 밖)
+ */
+@Service
+@RequiredArgsConstructor
+public class StorageDeletionOutbox {
+
+    private final StorageDeletionRepository storageDeletionRepository;
+
+    // 꺼내간 항목을 다른 워커가 다시 잡지 않도록 미뤄 두는 시간
+    @Value("${storage.deletion.lease-seconds:300}")
+    private long leaseSeconds;
+
+    // 재시도 간격: base * 2^(attempts-1), 최대 max
+    @Value("${storage.deletion.retry-base-seconds:30}")
+    private long retryBaseSeconds;
+
+    @Value("${storage.deletion.retry-max-seconds:3600}")
+    private long retryMaxSeconds;
+
+    @Value("${storage.deletion.max-attempts:10}")
+    private int maxAttempts;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String storagePath) {
+        enqueueAll(List.of(storagePath));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueAll(Collection<String> storagePaths) {
+        LocalDateTime now = LocalDateTime.now();
+        List<StorageDeletion> deletions = storagePaths.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(path -> StorageDeletion.of(path, now))
+                .toList();
+        if (!deletions.isEmpty()) {
+            storageDeletionRepository.saveAll(deletions);
+        }
+    }
+
+    // 처리 시각이 된 항목을 batchSize 건 꺼내고 lease 시간만큼 뒤로 미룸
+    @Transactional
+    public List<StorageDeletion> claim(LocalDateTime now, int batchSize) {
+        List<StorageDeletion> due = storageDeletionRepository.findDue(now, maxAttempts, PageRequest.of(0, batchSize));
+        LocalDateTime leaseUntil = now.plusSeconds(leaseSeconds);
+        due.forEach(d -> d.lease(leaseUntil));
+        return due;
+    }
+
+    @Transactional
+    public void complete(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            storageDeletionRepository.deleteByIdIn(ids);
+        }
+    }
+
+    // 실패 기록 + 다음 시도 시각, 재시도 한도에 도달했으면 true
+    @Transactional
+    public boolean fail(Long id, String error, LocalDateTime now) {
+        return storageDeletionRepository.findById(id)
+                .map(d -> {
+                    d.failed(error, now.plus(backoff(d.getAttempts() + 1)));
+                    return d.getAttempts() >= maxAttempts;
+                })
+                .orElse(false);
+    }
+
+    private Duration backoff(int attempts) {
+        long seconds = retryBaseSeconds << Math.min(attempts - 1, 20);
+        return Duration.ofSeconds(Math.min(seconds, retryMaxSeconds));
+    }
+}
@@ -0,0 +1,119 @@
+package com.mycom.myapp.domain.schedule_extras.service;
+
+import com.mycom.myapp.common.config.storage.StorageService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.FileImageInputStream;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.Optional;
+
+/**
+ * 원본 이미지 → 긴 변 max-size px 이하 JPEG 썸네일
+ * - 원본이 max-source-bytes 보다 크면 읽지 않고 건너뜀 (이어 올리기로 큰 이미지도 올라옴)
+ * - 원본은 저장소에서 transferTo 로 임시 파일에 받아 스트림으로 읽음 → 원본 바이트를 힙에 올리지 않음
+ * - 디코딩 전에 헤더의 가로/세로로 픽셀 수를 확인 → 압축 폭탄 이미지는 건너뜀
+ * - 디코딩할 수 없는 형식이면 empty
+ */
+@Component
+public class ThumbnailGenerator {
+
+    private final StorageService storageService;
+    private final int maxSize;
+    private final long maxSourcePixels;
+    private final long maxSourceBytes;
+
+    public ThumbnailGenerator(StorageService storageService,
+                              @Value("${attachment.thumbnail.max-size:320}") int maxSize,
+                              @Value("${attachment.thumbnail.max-source-pixels:40000000}") long maxSourcePixels,
+                              @Value("${attachment.thumbnail.max-source-bytes:52428800}") long maxSourceBytes) {
+        this.storageService = storageService;
+        this.maxSize = maxSize;
+        this.maxSourcePixels = maxSourcePixels;
+        this.maxSourceBytes = maxSourceBytes;
+    }
+
+    public Optional<byte[]> generate(String storagePath, long fileSize) throws IOException {
+        if (fileSize > maxSourceBytes) {
+            return Optional.empty();
+        }
+
+        Path original = Files.createTempFile("thumbnail-source-", ".tmp");
+        try {
+            try (FileChannel out = FileChannel.open(original, StandardOpenOption.WRITE)) {
+                storageService.transferTo(storagePath, 0, fileSize, out);
+            }
+
+            BufferedImage source = decode(original);
+            if (source == null) {
+                return Optional.empty();
+            }
+            return Optional.of(encodeJpeg(scale(source)));
+        } finally {
+            Files.deleteIfExists(original);
+        }
+    }
+
+    private BufferedImage decode(Path original) throws IOException {
+        try (ImageInputStream in = new FileImageInputStream(original.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > maxSourcePixels) {
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 비율 유지, 원본이 이미 작으면 크기 그대로 (JPEG 재인코딩만)
+    private BufferedImage scale(BufferedImage source) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double ratio = Math.min(1.0, (double) maxSize / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(height * ratio));
+
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            // 투명 배경(PNG 등)은 흰색으로
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, targetWidth, targetHeight);
+            g.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, "jpg", out)) {
+            throw new IOException("JPEG 인코더를 찾을 수 없습니다.");
+        }
+        return out.toByteArray();
+    }
+}
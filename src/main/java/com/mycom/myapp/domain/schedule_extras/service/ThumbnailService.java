@@ -0,0 +1,82 @@
+package com.mycom.myapp.domain.schedule_extras.service;
+
+import com.mycom.myapp.domain.schedule_extras.entity.ScheduleAttachment;
+import com.mycom.myapp.domain.schedule_extras.entity.StoredBlob;
+import com.mycom.myapp.domain.schedule_extras.entity.enums.ThumbnailStatus;
+import com.mycom.myapp.domain.schedule_extras.repository.ScheduleAttachmentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 썸네일 상태 관리 (ThumbnailWorker 전용)
+ * - claim 으로 PROCESSING + lease 선점 → 워커가 여러 개여도 한 첨부는 한 워커만 생성
+ * - 썸네일도 AttachmentBlobService 로 저장 → 같은 이미지의 썸네일은 한 번만 저장
+ * - 이미지 디코딩/축소는 트랜잭션 밖(ThumbnailGenerator)에서
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ThumbnailService {
+
+    private static final String THUMBNAIL_CONTENT_TYPE = "image/jpeg";
+
+    private final ScheduleAttachmentRepository attachmentRepository;
+    private final AttachmentBlobService attachmentBlobService;
+
+    // 선점 후 워커가 죽었을 때 다른 워커가 다시 잡기까지의 시간
+    @Value("${attachment.thumbnail.lease-seconds:300}")
+    private long leaseSeconds;
+
+    // 생성 대상을 batchSize 건 잠가서 꺼내고 PROCESSING 으로 선점 (다른 워커가 잠근 행은 건너뜀)
+    public List<ScheduleAttachment> claim(LocalDateTime now, int batchSize) {
+        List<ScheduleAttachment> targets = attachmentRepository.findThumbnailTargetsForUpdate(
+                ThumbnailStatus.PENDING, ThumbnailStatus.PROCESSING, now, PageRequest.of(0, batchSize));
+        LocalDateTime leaseUntil = now.plusSeconds(leaseSeconds);
+        targets.forEach(a -> {
+            a.setThumbnailStatus(ThumbnailStatus.PROCESSING);
+            a.setThumbnailLeaseUntil(leaseUntil);
+        });
+        return targets;
+    }
+
+    // 그 사이 첨부가 삭제됐거나 (lease 만료 후 다른 워커가) 이미 끝냈으면 아무것도 저장하지 않음
+    public void complete(Long attachmentId, byte[] thumbnail) throws IOException {
+        ScheduleAttachment attachment = attachmentRepository.findForUpdate(attachmentId).orElse(null);
+        if (attachment == null || attachment.getThumbnailStatus() != ThumbnailStatus.PROCESSING) {
+            return;
+        }
+
+        String digest = AttachmentBlobService.sha256Hex(new ByteArrayInputStream(thumbnail));
+        StoredBlob blob = attachmentBlobService.acquire(
+                digest,
+                (long) thumbnail.length,
+                THUMBNAIL_CONTENT_TYPE,
+                "thumbnail.jpg",
+                () -> new ByteArrayInputStream(thumbnail)
+        );
+
+        attachment.setThumbnailHash(digest);
+        attachment.setThumbnailPath(blob.getStoragePath());
+        attachment.setThumbnailUrl(blob.getPublicUrl());
+        attachment.setThumbnailStatus(ThumbnailStatus.READY);
+        attachment.setThumbnailLeaseUntil(null);
+    }
+
+    // 디코딩 불가/원본 읽기 실패 → 원본 URL 로 보여줌 (이미 READY 면 그대로)
+    public void fail(Long attachmentId) {
+        attachmentRepository.findForUpdate(attachmentId)
+                .filter(a -> a.getThumbnailStatus() == ThumbnailStatus.PROCESSING)
+                .ifPresent(a -> {
+                    a.setThumbnailStatus(ThumbnailStatus.FAILED);
+                    a.setThumbnailLeaseUntil(null);
+                });
+    }
+}
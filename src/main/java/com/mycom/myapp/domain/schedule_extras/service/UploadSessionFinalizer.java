@@ -0,0 +1,77 @@
+package com.mycom.myapp.domain.schedule_extras.service;
+
+import com.mycom.myapp.domain.schedule_extras.dto.AttachmentResponseDto;
+import com.mycom.myapp.domain.schedule_extras.entity.UploadSession;
+import com.mycom.myapp.domain.schedule_extras.repository.UploadSessionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * 업로드 세션 complete 의 DB 단계 (AttachmentUploadSessionServiceImpl.complete 전용)
+ * - claim   : 세션 행을 잠그고 completingUntil 로 선점 → 동시에 들어온 complete/abort 는 거절
+ * - finish  : 첨부 row 생성 + 세션 삭제를 짧은 트랜잭션 하나로
+ * - release : 실패 시 선점 해제 + 먼저 올려둔 저장소 파일 삭제 요청
+ * - 해시 계산/저장소 업로드는 claim 과 finish 사이, 트랜잭션 밖에서
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class UploadSessionFinalizer {
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final ScheduleAttachmentService attachmentService;
+    private final AttachmentBlobService attachmentBlobService;
+
+    @Value("${attachment.upload-session.complete-lease-minutes:10}")
+    private long leaseMinutes;
+
+    public UploadSession claim(Long scheduleId, String uploadId, Long userId, LocalDateTime now) {
+        UploadSession session = uploadSessionRepository.findForUpdate(uploadId, scheduleId, userId)
+                .filter(s -> s.getExpiresAt().isAfter(now))
+                .orElseThrow(() -> new IllegalArgumentException("업로드 세션을 찾을 수 없습니다: " + uploadId));
+
+        if (session.isCompleting(now)) {
+            throw new IllegalStateException("이미 완료 처리 중인 업로드입니다: " + uploadId);
+        }
+        session.startCompleting(now.plusMinutes(leaseMinutes));
+        return session;
+    }
+
+    @Transactional(rollbackFor = IOException.class)
+    public AttachmentResponseDto finish(UploadSession claimed, long fileSize, String digest,
+                                        AttachmentBlobService.UploadedContent uploaded,
+                                        AttachmentBlobService.ContentSource content) throws IOException {
+        // 선점 이후 만료 정리/중단으로 지워졌으면 첨부를 만들지 않음
+        UploadSession session = uploadSessionRepository
+                .findForUpdate(claimed.getId(), claimed.getScheduleId(), claimed.getUserId())
+                .orElseThrow(() -> new IllegalArgumentException("업로드 세션을 찾을 수 없습니다: " + claimed.getId()));
+
+        AttachmentResponseDto response = attachmentService.completeUpload(
+                session.getScheduleId(),
+                session.getUserId(),
+                session.getFileType(),
+                session.getOriginalName(),
+                session.getContentType(),
+                fileSize,
+                digest,
+                uploaded,
+                content
+        );
+
+        uploadSessionRepository.delete(session);
+        return response;
+    }
+
+    // uploaded 는 finish 가 롤백됐으면 어디에도 등록되지 않은 파일
+    public void release(String uploadId, AttachmentBlobService.UploadedContent uploaded) {
+        uploadSessionRepository.findById(uploadId).ifPresent(UploadSession::stopCompleting);
+        if (uploaded != null) {
+            attachmentBlobService.discard(uploaded);
+        }
+    }
+}
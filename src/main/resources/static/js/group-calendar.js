@@ -101,6 +101,8 @@
     members: [],
     schedules: [],
     calendar: null,
+    range: null, // 달력에 보이는 기간 { from: Date, to: Date }
+    ready: false,
     detail: null,
     handlersBound: false,
   };
@@ -121,8 +123,15 @@
     return data;
   }
 
-  async function loadGroupSchedules() {
-    const data = await requestJson(`/groups/${state.groupId}/schedules`);
+  // 달력에 보이는 기간(from ~ to)의 일정만 조회
+  async function loadGroupSchedules(from, to) {
+    const params = new URLSearchParams();
+    if (from && to) {
+      params.set("from", toLocalIsoString(from));
+      params.set("to", toLocalIsoString(to));
+    }
+    const qs = params.toString();
+    const data = await requestJson(`/groups/${state.groupId}/schedules${qs ? `?${qs}` : ""}`);
     const list = Array.isArray(data) ? data : (data?.content || data?.data || []);
     state.schedules = list.map(normalizeScheduleDto).filter(Boolean);
   }
@@ -290,6 +299,20 @@
         window.location.href = `/pages/schedule-detail.html?${params.toString()}`;
       },
 
+      // 월/주 이동 시 보이는 기간만 다시 조회
+      datesSet: async (info) => {
+        state.range = { from: info.start, to: info.end };
+        if (!state.ready) return; // 첫 로딩은 bootstrap 에서 처리
+
+        try {
+          await loadGroupSchedules(info.start, info.end);
+          renderUpcomingSchedules();
+          refreshCalendar();
+        } catch (e) {
+          console.error("group-calendar range load error:", e);
+        }
+      },
+
       /** 여기까지 **/
     });
 
@@ -385,6 +408,14 @@
   }
 
   // ===== utils =====
+  // Date -> "YYYY-MM-DDTHH:mm:ss" (로컬 시각, LocalDateTime 파라미터용)
+  function toLocalIsoString(date) {
+    const d = new Date(date);
+    const pad = (n) => String(n).padStart(2, "0");
+    return `${d.getFullYear()}-${pad(d.getMonth() + 1)}-${pad(d.getDate())}` +
+      `T${pad(d.getHours())}:${pad(d.getMinutes())}:${pad(d.getSeconds())}`;
+  }
+
   function escapeHtml(text) {
     if (text == null) return "";
     return String(text).replace(/[&<>"']/g, (c) => ({
@@ -417,7 +448,7 @@
 
       // 2) 데이터 로딩
       await loadGroupDetail();
-      await loadGroupSchedules();
+      await loadGroupSchedules(state.range?.from, state.range?.to);
       await loadGroupMembers();
 
       // 3) owner 판단 + 버튼 토글
@@ -431,6 +462,7 @@
 
       // 5) 이벤트 바인딩(1번만)
       bindHandlersOnce();
+      state.ready = true;
     } catch (e) {
       console.error("group-calendar bootstrap error:", e);
       const titleEl = $("groupTitle");
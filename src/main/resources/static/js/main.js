@@ -54,6 +54,8 @@
     personalSchedules: [], // schedule[]
     groupSchedulesByGroupId: new Map(), // groupId(string) -> schedule[]
     calendar: null,
+    range: null, // 달력에 보이는 기간 { from: Date, to: Date }
+    ready: false,
   };
 
   // ===== util =====
@@ -62,6 +64,14 @@
     return null;
   };
 
+  // Date -> "YYYY-MM-DDTHH:mm:ss" (로컬 시각, LocalDateTime 파라미터용)
+  const toLocalIsoString = (date) => {
+    const d = new Date(date);
+    const pad = (n) => String(n).padStart(2, "0");
+    return `${d.getFullYear()}-${pad(d.getMonth() + 1)}-${pad(d.getDate())}` +
+      `T${pad(d.getHours())}:${pad(d.getMinutes())}:${pad(d.getSeconds())}`;
+  };
+
   const formatDateTime = (iso) => {
     if (!iso) return "";
     const d = new Date(iso);
@@ -145,13 +155,37 @@
     return res.json();
   }
 
-  async function loadPersonalSchedules() {
-    const url = `/personal-schedules?ownerId=${state.userId}`;
-    const data = await fetchJson(url);
+  // 내 개인 일정 + 내가 속한 모든 그룹 일정을 한 번에 조회 (달력에 보이는 기간만)
+  async function loadMySchedules(from, to) {
+    const params = new URLSearchParams();
+    params.set("currentUserId", String(state.userId));
+    params.set("from", toLocalIsoString(from));
+    params.set("to", toLocalIsoString(to));
 
+    const data = await fetchJson(`/my-schedules?${params.toString()}`);
     const list = Array.isArray(data) ? data : data?.content || data?.data || [];
-    const norm = list.map((dto) => normalizeScheduleDto(dto, null)).filter(Boolean);
-    state.personalSchedules = uniqById(norm);
+
+    const personal = [];
+    const byGroup = new Map();
+    for (const dto of list) {
+      const gidRaw = pick(dto, ["groupId", "group_id"]);
+      const gid = gidRaw == null ? null : String(gidRaw);
+      const s = normalizeScheduleDto(dto, gid);
+      if (!s) continue;
+
+      if (gid == null) {
+        personal.push(s);
+      } else {
+        if (!byGroup.has(gid)) byGroup.set(gid, []);
+        byGroup.get(gid).push(s);
+      }
+    }
+
+    state.personalSchedules = uniqById(personal);
+    state.groupSchedulesByGroupId.clear();
+    for (const [gid, arr] of byGroup.entries()) {
+      state.groupSchedulesByGroupId.set(gid, uniqById(arr));
+    }
   }
 
   async function loadGroups() {
@@ -175,22 +209,6 @@
       .filter((g) => (seen.has(g.id) ? false : (seen.add(g.id), true)));
   }
 
-  async function loadGroupSchedulesForAllGroups() {
-    state.groupSchedulesByGroupId.clear();
-
-    const promises = state.groups.map(async (g) => {
-      const gid = String(g.id);
-      const url = `/groups/${gid}/schedules`;
-      const data = await fetchJson(url);
-
-      const list = Array.isArray(data) ? data : data?.content || data?.data || [];
-      const norm = list.map((dto) => normalizeScheduleDto(dto, gid)).filter(Boolean);
-      state.groupSchedulesByGroupId.set(gid, uniqById(norm));
-    });
-
-    await Promise.all(promises);
-  }
-
   // =========================
   // 데이터 합치기 / 이벤트 생성
   // =========================
@@ -391,6 +409,20 @@
 
         window.location.href = `/pages/schedule-detail.html?${params.toString()}`;
       },
+
+      // 월/주 이동 시 보이는 기간만 다시 조회
+      datesSet: async (info) => {
+        state.range = { from: info.start, to: info.end };
+        if (!state.ready) return; // 첫 로딩은 bootstrap 에서 처리
+
+        try {
+          await loadMySchedules(info.start, info.end);
+          renderUpcomingList();
+          refreshCalendar();
+        } catch (e) {
+          console.error("기간 일정 로딩 중 오류:", e);
+        }
+      },
     });
 
     state.calendar.render();
@@ -464,9 +496,14 @@
 
     // 2) 데이터 로딩 후 리프레시
     try {
-      await loadPersonalSchedules();
       await loadGroups();
-      await loadGroupSchedulesForAllGroups();
+
+      // 달력이 없으면(로드 실패) 이번 달 기준으로 조회
+      const now = new Date();
+      const from = state.range?.from ?? new Date(now.getFullYear(), now.getMonth(), 1);
+      const to = state.range?.to ?? new Date(now.getFullYear(), now.getMonth() + 1, 1);
+      await loadMySchedules(from, to);
+      state.ready = true;
 
       renderGroupList();
       renderUpcomingList();
@@ -90,7 +90,7 @@ function renderSchedule(data) {
     }
 
     renderAttachments(data.attachments || [], data.ownerId);
-    renderComments(data.comments || []);
+    renderComments(data.comments || [], data.commentsNextCursor);
 }
 
 
@@ -146,7 +146,8 @@ function renderAttachments(list, ownerId) {
 
         if (a.contentType?.startsWith("image")) {
             const img = document.createElement("img");
-            img.src = a.fileUrl;
+            // 목록에는 썸네일(없으면 원본), 크게 보기는 원본
+            img.src = a.thumbnailUrl || a.fileUrl;
             img.style.maxWidth = "200px";
             img.style.cursor = "pointer";
             img.onclick = () => {
@@ -298,7 +299,10 @@ async function loadParticipants(scheduleId) {
 /* ======================
    댓글
 ====================== */
-function renderComments(list) {
+const COMMENT_PAGE_SIZE = 20;
+
+// 상세 응답에는 댓글 첫 페이지만 포함 → 나머지는 "더 보기" 로 커서 조회
+function renderComments(list, nextCursor) {
     commentsEl.innerHTML = "";
 
     if (list.length === 0) {
@@ -306,6 +310,38 @@ function renderComments(list) {
         return;
     }
 
+    appendComments(list);
+    renderMoreCommentsButton(nextCursor);
+}
+
+function renderMoreCommentsButton(nextCursor) {
+    document.getElementById("moreCommentsBtn")?.remove();
+    if (!nextCursor) return;
+
+    const moreBtn = document.createElement("button");
+    moreBtn.id = "moreCommentsBtn";
+    moreBtn.innerText = "댓글 더 보기";
+    moreBtn.style.marginTop = "6px";
+    moreBtn.onclick = () => loadMoreComments(nextCursor);
+    commentsEl.appendChild(moreBtn);
+}
+
+async function loadMoreComments(cursor) {
+    const res = await apiFetch(
+        `/schedules/${scheduleId}/comments/scroll?size=${COMMENT_PAGE_SIZE}&cursor=${encodeURIComponent(cursor)}`
+    );
+    if (!res.ok) {
+        alert("댓글 조회 실패");
+        return;
+    }
+
+    const page = await res.json();
+    document.getElementById("moreCommentsBtn")?.remove();
+    appendComments(page.content || []);
+    renderMoreCommentsButton(page.hasNext ? page.nextCursor : null);
+}
+
+function appendComments(list) {
     list.forEach(c => {
         const wrapper = document.createElement("div");
         wrapper.style.borderBottom = "1px solid #ddd";
@@ -0,0 +1,120 @@
+package com.mycom.myapp.common.config.security.hashing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class BoundedPasswordEncoderTest {
+
+    @Mock
+    PasswordEncoder delegate;
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        if (encoder != null) {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("encode/matches - 전용 실행기에서 위임 인코더 결과를 그대로 반환")
+    void delegates() {
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, 1000, registry);
+        given(delegate.encode("pw")).willReturn("hashed");
+        given(delegate.matches("pw", "hashed")).willReturn(true);
+
+        assertThat(encoder.encode("pw")).isEqualTo("hashed");
+        assertThat(encoder.matches("pw", "hashed")).isTrue();
+    }
+
+    @Test
+    @DisplayName("위임 인코더 예외 - 실행 예외로 감싸지 않고 원래 예외 그대로 전달")
+    void unwrapsDelegateException() {
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, 1000, registry);
+        given(delegate.matches(any(), any())).willThrow(new IllegalArgumentException("bad hash"));
+
+        assertThatThrownBy(() -> encoder.matches("pw", "x"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("bad hash");
+    }
+
+    @Test
+    @DisplayName("실행기 포화 - 대기열 초과는 즉시, 대기 시간 초과는 timeout 후 거절")
+    void rejectsWhenSaturated() throws Exception {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1));
+        encoder = new BoundedPasswordEncoder(delegate, pool, 200, registry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 스레드 1개 점유 (encoder 를 거치지 않으므로 이 작업은 timeout 대상이 아님)
+        pool.execute(() -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // 대기열 1칸 차지 → timeout 으로 거절
+        AtomicReference<Throwable> queuedError = new AtomicReference<>();
+        Thread queued = new Thread(() -> {
+            try {
+                encoder.encode("b");
+            } catch (RuntimeException e) {
+                queuedError.set(e);
+            }
+        });
+        queued.start();
+        awaitQueueSize(pool, 1);
+
+        // 대기열까지 가득 → 바로 거절
+        assertThatThrownBy(() -> encoder.encode("c"))
+                .isInstanceOf(PasswordHashingRejectedException.class);
+
+        queued.join(2000);
+        release.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(2, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(queuedError.get()).isInstanceOf(PasswordHashingRejectedException.class);
+        assertThat(registry.get("password.hashing.rejected").tag("reason", "queue_full").counter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get("password.hashing.rejected").tag("reason", "timeout").counter().count())
+                .isEqualTo(1.0);
+        // timeout 으로 취소된 "b" 는 스레드가 비어도 실행되지 않음
+        then(delegate).shouldHaveNoInteractions();
+    }
+
+    private static void awaitQueueSize(ThreadPoolExecutor pool, int size) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (pool.getQueue().size() < size) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+}
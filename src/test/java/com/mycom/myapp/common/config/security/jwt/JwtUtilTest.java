@@ -0,0 +1,148 @@
+package com.mycom.myapp.common.config.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "jwt-util-test-secret-key-jwt-util-test-secret-key-0123456789";
+    private static final Instant START = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final MutableClock clock = new MutableClock(START);
+
+    @Test
+    @DisplayName("같은 액세스 토큰은 캐시된 claims 를 그대로 반환")
+    void parse_cacheHit() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 100, clock);
+        String token = accessToken(1L, Duration.ofMinutes(10));
+
+        Claims first = jwtUtil.parse(token);
+        Claims second = jwtUtil.parse(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(jwtUtil.verifiedCacheSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("exp 가 지난 캐시 항목은 버리고 다시 검증 → 만료 예외")
+    void parse_expiredCachedToken_throw() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 100, clock);
+        String token = accessToken(1L, Duration.ofMinutes(10));
+        jwtUtil.parse(token);
+
+        clock.advance(Duration.ofMinutes(11));
+
+        assertThatThrownBy(() -> jwtUtil.parse(token))
+                .isInstanceOf(ExpiredJwtException.class);
+        assertThat(jwtUtil.verifiedCacheSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("payload 를 바꾼 토큰은 캐시된 원본과 무관하게 서명 검증 실패")
+    void parse_tamperedToken_notServedFromCache() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 100, clock);
+        String token = accessToken(1L, Duration.ofMinutes(10));
+        jwtUtil.parse(token);
+
+        // 원본 서명은 그대로 두고 sub 만 다른 유저로 변경
+        String[] parts = token.split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                .replace("\"sub\":\"1\"", "\"sub\":\"2\"");
+        String tampered = parts[0] + "."
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + "." + parts[2];
+
+        assertThatThrownBy(() -> jwtUtil.parse(tampered))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("캐시가 가득 차면 가장 오래 안 쓴 토큰부터 밀려남")
+    void parse_sizeBound_evictsLeastRecentlyUsed() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 2, clock);
+        String t1 = accessToken(1L, Duration.ofMinutes(10));
+        String t2 = accessToken(2L, Duration.ofMinutes(10));
+        String t3 = accessToken(3L, Duration.ofMinutes(10));
+
+        Claims c1 = jwtUtil.parse(t1);
+        Claims c2 = jwtUtil.parse(t2);
+        jwtUtil.parse(t1); // t1 최근 사용 → t2 가 가장 오래됨
+        jwtUtil.parse(t3);
+
+        assertThat(jwtUtil.verifiedCacheSize()).isEqualTo(2);
+        assertThat(jwtUtil.parse(t1)).isSameAs(c1);
+        assertThat(jwtUtil.parse(t2)).isNotSameAs(c2); // 밀려나서 다시 파싱
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰은 캐시하지 않음")
+    void parse_refreshToken_notCached() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 100, clock);
+        String token = Jwts.builder()
+                .subject("1")
+                .claim("typ", "refresh")
+                .expiration(Date.from(START.plus(Duration.ofDays(1))))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        jwtUtil.parse(token);
+
+        assertThat(jwtUtil.verifiedCacheSize()).isZero();
+    }
+
+    private String accessToken(Long userId, Duration ttl) {
+        return Jwts.builder()
+                .subject(String.valueOf(userId))
+                .claim("role", "USER")
+                .claim("typ", "access")
+                .issuedAt(Date.from(START))
+                .expiration(Date.from(START.plus(ttl)))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
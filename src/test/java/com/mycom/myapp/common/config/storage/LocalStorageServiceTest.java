@@ -0,0 +1,147 @@
+package com.mycom.myapp.common.config.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalStorageServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    Path root;
+    LocalStorageService storageService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        root = tempDir.resolve("uploads");
+        storageService = new LocalStorageService(root.toString(), "/storage");
+    }
+
+    @Test
+    @DisplayName("uploadFile - 내용을 저장하고 임시 파일은 남기지 않음")
+    void uploadFile_writesContent() throws Exception {
+        String path = storageService.uploadFile("a.txt", bytes("hello"), "text/plain");
+
+        assertThat(path).isEqualTo("a.txt");
+        assertThat(Files.readString(root.resolve("a.txt"))).isEqualTo("hello");
+        assertThat(tempFiles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("uploadFile - 스트림이 중간에 끊기면 대상 파일도 임시 파일도 남지 않음")
+    void uploadFile_interrupted_leavesNoPartialFile() {
+        InputStream broken = new InputStream() {
+            private int read;
+
+            @Override
+            public int read() throws IOException {
+                if (read++ < 3) {
+                    return 'x';
+                }
+                throw new IOException("connection reset");
+            }
+        };
+
+        assertThatThrownBy(() -> storageService.uploadFile("a.txt", broken, "text/plain"))
+                .isInstanceOf(IOException.class);
+
+        assertThat(root.resolve("a.txt")).doesNotExist();
+        assertThat(tempFiles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("uploadFile - 같은 이름이면 기존 파일을 통째로 교체")
+    void uploadFile_replacesExisting() throws Exception {
+        storageService.uploadFile("a.txt", bytes("old content"), "text/plain");
+        storageService.uploadFile("a.txt", bytes("new"), "text/plain");
+
+        assertThat(Files.readString(root.resolve("a.txt"))).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("../ 로 루트 밖을 가리키는 경로는 거절")
+    void resolve_parentTraversal_throw() {
+        assertThatThrownBy(() -> storageService.uploadFile("../escape.txt", bytes("x"), "text/plain"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storageService.deleteFile("nested/../../escape.txt"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(tempDir.resolve("escape.txt")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("루트 밖 절대 경로와 루트 자체는 거절")
+    void resolve_absolutePath_throw() throws Exception {
+        Path outside = tempDir.resolve("outside.txt");
+        Files.writeString(outside, "keep");
+
+        assertThatThrownBy(() -> storageService.deleteFile(outside.toString()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storageService.deleteFile("."))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(outside).exists();
+    }
+
+    @Test
+    @DisplayName("transferTo - position 부터 count 바이트만 전송")
+    void transferTo_range() throws Exception {
+        storageService.uploadFile("digits.txt", bytes("0123456789"), "text/plain");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long sent;
+        try (WritableByteChannel target = Channels.newChannel(out)) {
+            sent = storageService.transferTo("digits.txt", 2, 3, target);
+        }
+
+        assertThat(sent).isEqualTo(3);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("234");
+    }
+
+    @Test
+    @DisplayName("transferTo - 파일 끝을 넘는 count 는 끝까지만, 끝 이후 position 은 0 바이트")
+    void transferTo_clampsAtEof() throws Exception {
+        storageService.uploadFile("digits.txt", bytes("0123456789"), "text/plain");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long sent;
+        long pastEnd;
+        try (WritableByteChannel target = Channels.newChannel(out)) {
+            sent = storageService.transferTo("digits.txt", 8, 100, target);
+            pastEnd = storageService.transferTo("digits.txt", 20, 5, target);
+        }
+
+        assertThat(sent).isEqualTo(2);
+        assertThat(pastEnd).isZero();
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("89");
+    }
+
+    private List<Path> tempFiles() {
+        try (Stream<Path> files = Files.list(root)) {
+            return files.filter(p -> p.getFileName().toString().endsWith(".tmp")).toList();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ByteArrayInputStream bytes(String s) {
+        return new ByteArrayInputStream(s.getBytes(StandardCharsets.UTF_8));
+    }
+}
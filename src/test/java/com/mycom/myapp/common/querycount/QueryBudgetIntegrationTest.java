@@ -0,0 +1,190 @@
+package com.mycom.myapp.common.querycount;
+
+import static com.mycom.myapp.common.querycount.QueryCountAssert.assertQueries;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mycom.myapp.domain.group.GroupMemberRole;
+import com.mycom.myapp.domain.group.entity.Group;
+import com.mycom.myapp.domain.group.entity.GroupMember;
+import com.mycom.myapp.domain.group.repository.GroupMemberRepository;
+import com.mycom.myapp.domain.group.repository.GroupRepository;
+import com.mycom.myapp.domain.participation.entity.ParticipationStatus;
+import com.mycom.myapp.domain.participation.entity.ScheduleParticipation;
+import com.mycom.myapp.domain.schedule.entity.Schedule;
+import com.mycom.myapp.domain.schedule.entity.ScheduleStatus;
+import com.mycom.myapp.domain.schedule.repository.ScheduleRepository;
+import com.mycom.myapp.domain.schedule_extras.entity.ScheduleAttachment;
+import com.mycom.myapp.domain.schedule_extras.entity.ScheduleComment;
+import com.mycom.myapp.domain.schedule_extras.entity.enums.FileType;
+import com.mycom.myapp.domain.schedule_extras.repository.ScheduleAttachmentRepository;
+import com.mycom.myapp.domain.schedule_extras.repository.ScheduleCommentRepository;
+import com.mycom.myapp.domain.user.UserRole;
+import com.mycom.myapp.domain.user.entity.User;
+import com.mycom.myapp.domain.user.repository.UserRepository;
+
+/**
+ * 주요 조회 API 쿼리 수 가드레일
+ * - 참여자/댓글/멤버를 여러 명으로 채워서, 지연 로딩 N+1 이 생기면 예산을 넘도록 구성
+ * - 예산을 늘려야 한다면 이유를 주석으로 남길 것
+ */
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("querycount")
+@Import(QueryCountDataSourceConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryBudgetIntegrationTest {
+
+    private static final int MEMBERS = 12;
+    private static final int COMMENTS = 25;
+
+    @Autowired MockMvc mockMvc;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired UserRepository userRepository;
+    @Autowired GroupRepository groupRepository;
+    @Autowired GroupMemberRepository groupMemberRepository;
+    @Autowired ScheduleRepository scheduleRepository;
+    @Autowired ScheduleAttachmentRepository attachmentRepository;
+    @Autowired ScheduleCommentRepository commentRepository;
+
+    Long ownerId;
+    Long groupId;
+    Long scheduleId;
+
+    @BeforeAll
+    void seed() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            List<User> users = new ArrayList<>();
+            for (int i = 0; i < MEMBERS; i++) {
+                users.add(User.builder()
+                        .email("qc" + i + "@mycom.com")
+                        .passwordHash("{noop}pw")
+                        .name("유저" + i)
+                        .role(UserRole.USER)
+                        .build());
+            }
+            users = userRepository.saveAll(users);
+            User owner = users.get(0);
+
+            Group group = groupRepository.save(Group.builder().name("쿼리그룹").owner(owner).build());
+            for (User user : users) {
+                groupMemberRepository.save(GroupMember.builder()
+                        .group(group)
+                        .user(user)
+                        .role(user == owner ? GroupMemberRole.OWNER : GroupMemberRole.MEMBER)
+                        .build());
+            }
+
+            LocalDateTime startAt = LocalDateTime.now().plusDays(1);
+            Schedule schedule = Schedule.builder()
+                    .title("쿼리 예산 일정")
+                    .owner(owner)
+                    .group(group)
+                    .startAt(startAt)
+                    .endAt(startAt.plusHours(1))
+                    .status(ScheduleStatus.CONFIRMED)
+                    .build();
+            for (User user : users) {
+                schedule.addParticipation(ScheduleParticipation.builder()
+                        .user(user)
+                        .status(ParticipationStatus.ACCEPTED)
+                        .build());
+            }
+            schedule.initParticipationCounts();
+            schedule = scheduleRepository.save(schedule);
+
+            for (int i = 0; i < 3; i++) {
+                attachmentRepository.save(ScheduleAttachment.builder()
+                        .schedule(schedule)
+                        .user(owner)
+                        .fileType(FileType.FILE)
+                        .fileUrl("/storage/file" + i)
+                        .gcsPath("file" + i)
+                        .originalName("file" + i + ".txt")
+                        .build());
+            }
+
+            for (int i = 0; i < COMMENTS; i++) {
+                commentRepository.save(ScheduleComment.builder()
+                        .schedule(schedule)
+                        .user(users.get(i % users.size()))
+                        .content("댓글" + i)
+                        .build());
+            }
+
+            ownerId = owner.getId();
+            groupId = group.getId();
+            scheduleId = schedule.getId();
+        });
+    }
+
+    @Test
+    @DisplayName("일정 상세 조회는 참여자 수와 무관하게 3개 쿼리 이내 (일정+참여자, 첨부, 댓글 첫 페이지)")
+    void scheduleDetail() {
+        assertQueries(() -> mockMvc.perform(get("/group-schedules/{id}", scheduleId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.participations.length()").value(MEMBERS)))
+                .hasSelectCountAtMost(3)
+                .hasNoWrites();
+    }
+
+    @Test
+    @DisplayName("사용자별 그룹 목록 조회는 2개 쿼리 이내 (목록 + count)")
+    void userGroupList() {
+        assertQueries(() -> mockMvc.perform(get("/groups/users").param("currentUserId", ownerId.toString()))
+                .andExpect(status().isOk()))
+                .hasSelectCountAtMost(2)
+                .hasNoWrites();
+    }
+
+    @Test
+    @DisplayName("그룹 멤버 검색은 멤버 수와 무관하게 3개 쿼리 이내 (그룹 존재 확인, 목록, count)")
+    void groupMemberSearch() {
+        assertQueries(() -> mockMvc.perform(get("/groups/{groupId}/members", groupId)
+                        .param("page", "0")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(5)))
+                .hasSelectCountAtMost(3)
+                .hasNoWrites();
+    }
+
+    @Test
+    @DisplayName("댓글 커서 페이지 조회는 작성자 수와 무관하게 1개 쿼리")
+    void commentPage() {
+        assertQueries(() -> mockMvc.perform(get("/schedules/{id}/comments/scroll", scheduleId)
+                        .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(20)))
+                .hasSelectCountAtMost(1)
+                .hasNoWrites();
+    }
+
+    @Test
+    @DisplayName("댓글 전체 목록 조회는 작성자 수와 무관하게 1개 쿼리")
+    void commentList() {
+        assertQueries(() -> mockMvc.perform(get("/schedules/{id}/comments", scheduleId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(COMMENTS)))
+                .hasSelectCountAtMost(1)
+                .hasNoWrites();
+    }
+}
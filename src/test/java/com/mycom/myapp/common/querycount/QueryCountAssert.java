@@ -0,0 +1,76 @@
+package com.mycom.myapp.common.querycount;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.function.Executable;
+
+/**
+ * 쿼리 수 검증
+ *
+ * <pre>
+ * assertQueries(() -> mockMvc.perform(get("/group-schedules/1")).andExpect(status().isOk()))
+ *         .hasSelectCountAtMost(3)
+ *         .hasNoWrites();
+ * </pre>
+ */
+public class QueryCountAssert {
+
+    private final List<String> statements;
+
+    private QueryCountAssert(List<String> statements) {
+        this.statements = statements;
+    }
+
+    // action 실행 동안 현재 스레드에서 나간 쿼리만 집계
+    public static QueryCountAssert assertQueries(Executable action) {
+        QueryCountListener.clear();
+        try {
+            action.execute();
+        } catch (Throwable e) {
+            throw new AssertionError("쿼리 수 측정 대상 실행 중 오류가 발생했습니다.", e);
+        }
+        return new QueryCountAssert(QueryCountListener.snapshot());
+    }
+
+    public QueryCountAssert hasSelectCountAtMost(int budget) {
+        long selects = selectCount();
+        if (selects > budget) {
+            throw new AssertionError("select 쿼리 예산 초과: 예산 " + budget + "개, 실제 " + selects + "개" + describe());
+        }
+        return this;
+    }
+
+    public QueryCountAssert hasTotalCountAtMost(int budget) {
+        if (statements.size() > budget) {
+            throw new AssertionError("쿼리 예산 초과: 예산 " + budget + "개, 실제 " + statements.size() + "개" + describe());
+        }
+        return this;
+    }
+
+    public QueryCountAssert hasNoWrites() {
+        long writes = statements.size() - selectCount();
+        if (writes > 0) {
+            throw new AssertionError("조회 요청에서 쓰기 쿼리 " + writes + "개가 실행되었습니다." + describe());
+        }
+        return this;
+    }
+
+    public List<String> statements() {
+        return statements;
+    }
+
+    private long selectCount() {
+        return statements.stream()
+                .filter(sql -> sql.trim().toLowerCase(Locale.ROOT).startsWith("select"))
+                .count();
+    }
+
+    private String describe() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < statements.size(); i++) {
+            sb.append(System.lineSeparator()).append("  ").append(i + 1).append(") ").append(statements.get(i));
+        }
+        return sb.toString();
+    }
+}
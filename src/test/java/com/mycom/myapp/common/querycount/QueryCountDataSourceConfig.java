@@ -0,0 +1,31 @@
+package com.mycom.myapp.common.querycount;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+// 테스트용 DataSource 를 datasource-proxy 로 감싸서 실행 쿼리를 QueryCountListener 에 기록
+@TestConfiguration
+public class QueryCountDataSourceConfig {
+
+    @Bean
+    static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name("query-count")
+                            .listener(new QueryCountListener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
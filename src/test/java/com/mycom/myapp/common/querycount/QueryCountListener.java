@@ -0,0 +1,36 @@
+package com.mycom.myapp.common.querycount;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * 실행된 SQL 을 스레드별로 기록
+ * - MockMvc 요청은 테스트 스레드에서 그대로 실행되므로 다른 스레드(스케줄러 등)의 쿼리는 섞이지 않음
+ */
+public class QueryCountListener implements QueryExecutionListener {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        for (QueryInfo queryInfo : queryInfoList) {
+            STATEMENTS.get().add(queryInfo.getQuery());
+        }
+    }
+
+    static void clear() {
+        STATEMENTS.get().clear();
+    }
+
+    static List<String> snapshot() {
+        return List.copyOf(STATEMENTS.get());
+    }
+}
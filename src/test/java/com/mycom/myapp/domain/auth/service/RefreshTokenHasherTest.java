@@ -0,0 +1,16 @@
+package com.mycom.myapp.domain.auth.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RefreshTokenHasherTest {
+
+    @Test
+    @DisplayName("SHA-256 대문자 hex (기존 저장 형식과 동일)")
+    void hash_upperHexSha256() {
+        assertThat(RefreshTokenHasher.hash("abc"))
+                .isEqualTo("BA7816BF8F01CFEA414140DE5DAE2223B00361A396177A9CB410FF61F20015AD");
+    }
+}
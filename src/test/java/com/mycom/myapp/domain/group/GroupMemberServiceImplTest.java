@@ -11,6 +11,7 @@ import com.mycom.myapp.domain.group.exception.GroupPermissionDeniedException;
 import com.mycom.myapp.domain.group.repository.GroupMemberRepository;
 import com.mycom.myapp.domain.group.repository.GroupRepository;
 import com.mycom.myapp.domain.group.service.GroupMemberServiceImpl;
+import com.mycom.myapp.domain.group.service.GroupMembershipCache;
 import com.mycom.myapp.domain.user.entity.User;
 import com.mycom.myapp.domain.user.exception.UserNotFoundException;
 import com.mycom.myapp.domain.user.repository.UserRepository;
@@ -38,6 +39,7 @@ class GroupMemberServiceImplTest {
     @Mock GroupMemberRepository groupMemberRepository;
     @Mock GroupRepository groupRepository;
     @Mock UserRepository userRepository;
+    @Mock GroupMembershipCache membershipCache;
 
     @InjectMocks
     GroupMemberServiceImpl groupMemberService;
@@ -111,6 +113,7 @@ class GroupMemberServiceImplTest {
         assertThat(response.getRole()).isEqualTo(GroupMemberRole.MEMBER);
 
         then(groupMemberRepository).should(times(1)).save(any(GroupMember.class));
+        then(membershipCache).should().evict(groupId, userId);
     }
 
     @Test
@@ -192,6 +195,7 @@ class GroupMemberServiceImplTest {
         groupMemberService.deleteGroupMember(groupId, targetUserId, currentUserId);
 
         then(groupMemberRepository).should(times(1)).deleteByGroupIdAndUserId(groupId, targetUserId);
+        then(membershipCache).should().evict(groupId, targetUserId);
     }
 
     @Test
@@ -235,5 +239,18 @@ class GroupMemberServiceImplTest {
         groupMemberService.deleteGroupMember(groupId, targetUserId, currentUserId);
 
         then(groupMemberRepository).should(times(1)).deleteByGroupIdAndUserId(groupId, targetUserId);
+        then(membershipCache).should().evict(groupId, targetUserId);
+        then(membershipCache).should(never()).findRole(anyLong(), anyLong()); // 권한은 Group.owner 기준
+    }
+
+    @Test
+    @DisplayName("deleteGroupMember - 그룹이 없으면 예외")
+    void deleteGroupMember_groupNotFound_throw() {
+        given(groupRepository.findById(10L)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> groupMemberService.deleteGroupMember(10L, 2L, 2L))
+                .isInstanceOf(GroupNotFoundException.class);
+
+        then(groupMemberRepository).should(never()).deleteByGroupIdAndUserId(anyLong(), anyLong());
     }
 }
@@ -0,0 +1,75 @@
+package com.mycom.myapp.domain.group;
+
+import com.mycom.myapp.domain.group.entity.GroupMember;
+import com.mycom.myapp.domain.group.repository.GroupMemberRepository;
+import com.mycom.myapp.domain.group.service.GroupMembershipCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GroupMembershipCacheTest {
+
+    @Mock GroupMemberRepository groupMemberRepository;
+
+    GroupMembershipCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new GroupMembershipCache(groupMemberRepository, 60, 100);
+    }
+
+    @Test
+    @DisplayName("findRole - 같은 (groupId, userId) 는 한 번만 조회")
+    void findRole_cached() {
+        GroupMember member = GroupMember.builder().role(GroupMemberRole.MEMBER).build();
+        given(groupMemberRepository.findByGroupIdAndUserId(10L, 1L)).willReturn(Optional.of(member));
+
+        assertThat(cache.findRole(10L, 1L)).contains(GroupMemberRole.MEMBER);
+        assertThat(cache.findRole(10L, 1L)).contains(GroupMemberRole.MEMBER);
+
+        then(groupMemberRepository).should(times(1)).findByGroupIdAndUserId(10L, 1L);
+    }
+
+    @Test
+    @DisplayName("findRole - 비멤버 결과도 캐시, evict 후에는 다시 조회")
+    void findRole_negativeCachedUntilEvict() {
+        GroupMember member = GroupMember.builder().role(GroupMemberRole.MEMBER).build();
+        given(groupMemberRepository.findByGroupIdAndUserId(10L, 1L))
+                .willReturn(Optional.empty(), Optional.of(member));
+
+        assertThat(cache.isMember(10L, 1L)).isFalse();
+        assertThat(cache.isMember(10L, 1L)).isFalse();
+
+        cache.evict(10L, 1L);
+
+        assertThat(cache.isMember(10L, 1L)).isTrue();
+        then(groupMemberRepository).should(times(2)).findByGroupIdAndUserId(10L, 1L);
+    }
+
+    @Test
+    @DisplayName("evictGroup - 해당 그룹 항목만 제거")
+    void evictGroup_onlyThatGroup() {
+        GroupMember member = GroupMember.builder().role(GroupMemberRole.MEMBER).build();
+        given(groupMemberRepository.findByGroupIdAndUserId(anyLong(), anyLong())).willReturn(Optional.of(member));
+
+        cache.findRole(10L, 1L);
+        cache.findRole(20L, 1L);
+
+        cache.evictGroup(10L);
+
+        cache.findRole(10L, 1L);
+        cache.findRole(20L, 1L);
+
+        then(groupMemberRepository).should(times(2)).findByGroupIdAndUserId(10L, 1L);
+        then(groupMemberRepository).should(times(1)).findByGroupIdAndUserId(20L, 1L);
+    }
+}
@@ -34,6 +34,7 @@ import com.mycom.myapp.domain.group.entity.GroupMember;
 import com.mycom.myapp.domain.group.exception.GroupNotFoundException;
 import com.mycom.myapp.domain.group.exception.GroupPermissionDeniedException;
 import com.mycom.myapp.domain.group.repository.GroupMemberRepository;
+import com.mycom.myapp.domain.group.service.GroupMembershipCache;
 import com.mycom.myapp.domain.group.repository.GroupRepository;
 import com.mycom.myapp.domain.group.service.GroupServiceImpl;
 import com.mycom.myapp.domain.user.entity.User;
@@ -52,6 +53,9 @@ class GroupServiceImplTest {
     @Mock
     GroupMemberRepository groupMemberRepository;
 
+    @Mock
+    GroupMembershipCache membershipCache;
+
     @InjectMocks
     GroupServiceImpl groupService;
 
@@ -223,6 +227,7 @@ class GroupServiceImplTest {
         // then
         then(groupMemberRepository).should().deleteByGroupId(groupId);
         then(groupRepository).should().delete(group);
+        then(membershipCache).should().evictGroup(groupId);
     }
 
     @Test
@@ -248,6 +253,7 @@ class GroupServiceImplTest {
 
         then(groupMemberRepository).should(never()).deleteByGroupId(anyLong());
         then(groupRepository).should(never()).delete(any());
+        then(membershipCache).should(never()).evictGroup(anyLong());
     }
 
     @Test
@@ -274,6 +280,7 @@ class GroupServiceImplTest {
         assertThat(response.getId()).isEqualTo(groupId);
         assertThat(response.getMemberCount()).isEqualTo(3L);
         assertThat(response.getMyRole()).isEqualTo(GroupMemberRole.OWNER);
+        then(membershipCache).shouldHaveNoInteractions();
     }
 
     @Test
@@ -284,7 +291,6 @@ class GroupServiceImplTest {
         Long memberId = 2L;
 
         User owner = User.builder().id(1L).build();
-        User memberUser = User.builder().id(memberId).build();
 
         Group group = Group.builder()
                 .id(groupId)
@@ -292,17 +298,10 @@ class GroupServiceImplTest {
                 .owner(owner)
                 .build();
 
-        GroupMember membership = GroupMember.builder()
-                .id(100L)
-                .group(group)
-                .user(memberUser)
-                .role(GroupMemberRole.MEMBER)
-                .build();
-
         given(groupRepository.findById(groupId)).willReturn(Optional.of(group));
         given(groupMemberRepository.countByGroupId(groupId)).willReturn(2L);
-        given(groupMemberRepository.findByGroupIdAndUserId(groupId, memberId))
-                .willReturn(Optional.of(membership));
+        given(membershipCache.findRole(groupId, memberId))
+                .willReturn(Optional.of(GroupMemberRole.MEMBER));
 
         // when
         GroupDetailResponse response = groupService.findGroupDetailById(groupId, memberId);
@@ -327,13 +326,14 @@ class GroupServiceImplTest {
                 .build();
 
         given(groupRepository.findById(groupId)).willReturn(Optional.of(group));
-        given(groupMemberRepository.countByGroupId(groupId)).willReturn(1L);
-        given(groupMemberRepository.findByGroupIdAndUserId(groupId, userId))
+        given(membershipCache.findRole(groupId, userId))
                 .willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> groupService.findGroupDetailById(groupId, userId))
                 .isInstanceOf(GroupPermissionDeniedException.class);
+
+        then(groupMemberRepository).should(never()).countByGroupId(anyLong());
     }
 
     @Test
@@ -2,6 +2,8 @@ package com.mycom.myapp.domain.participation.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import java.util.List;
@@ -18,10 +20,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import com.mycom.myapp.domain.participation.dto.ParticipationRequestDto;
 import com.mycom.myapp.domain.participation.dto.ParticipationStatusResponseDto;
 import com.mycom.myapp.domain.participation.dto.ParticipationSummaryDto;
+import com.mycom.myapp.domain.participation.dto.ParticipationSummaryView;
 import com.mycom.myapp.domain.participation.entity.ParticipationStatus;
 import com.mycom.myapp.domain.participation.entity.ScheduleParticipation;
 import com.mycom.myapp.domain.participation.repository.ScheduleParticipationRepository;
 import com.mycom.myapp.domain.schedule.entity.Schedule;
+import com.mycom.myapp.domain.schedule.entity.ScheduleStatus;
 import com.mycom.myapp.domain.schedule.repository.ScheduleRepository;
 import com.mycom.myapp.domain.user.entity.User;
 import com.mycom.myapp.domain.user.repository.UserRepository;
@@ -66,7 +70,7 @@ class ParticipationServiceImplTest {
         // 레포 동작 정의
         given(scheduleRepository.findById(scheduleId)).willReturn(Optional.of(schedule));
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(participationRepository.findByScheduleIdAndUserId(scheduleId, userId))
+        given(participationRepository.findForUpdate(scheduleId, userId))
                 .willReturn(Optional.empty());
 
         ScheduleParticipation saved = ScheduleParticipation.builder()
@@ -123,7 +127,7 @@ class ParticipationServiceImplTest {
 
         given(scheduleRepository.findById(scheduleId)).willReturn(Optional.of(schedule));
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(participationRepository.findByScheduleIdAndUserId(scheduleId, userId))
+        given(participationRepository.findForUpdate(scheduleId, userId))
                 .willReturn(Optional.of(existing));
 
         // save 호출 시, JPA처럼 그대로 엔티티 리턴한다고 가정
@@ -137,6 +141,109 @@ class ParticipationServiceImplTest {
         assertThat(result.getStatus()).isEqualTo(ParticipationStatus.DECLINED);
     }
 
+    @Test
+    @DisplayName("투표 상태가 바뀌면 일정의 참여 카운터를 이전 상태 -1, 새 상태 +1 로 증감한다")
+    void vote_adjustsParticipationCounts() {
+        // given
+        Long userId = 10L;
+        Long scheduleId = 1L;
+
+        ParticipationRequestDto request = ParticipationRequestDto.builder()
+                .scheduleId(scheduleId)
+                .status(ParticipationStatus.DECLINED)
+                .build();
+
+        Schedule schedule = Schedule.builder()
+                .id(scheduleId)
+                .title("투표 일정")
+                .status(ScheduleStatus.VOTING)
+                .minParticipants(2)
+                .build();
+
+        User user = User.builder()
+                .id(userId)
+                .name("홍길동")
+                .build();
+
+        ScheduleParticipation existing = ScheduleParticipation.builder()
+                .id(100L)
+                .schedule(schedule)
+                .user(user)
+                .status(ParticipationStatus.ACCEPTED)
+                .build();
+
+        given(scheduleRepository.findById(scheduleId)).willReturn(Optional.of(schedule));
+        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(participationRepository.findForUpdate(scheduleId, userId))
+                .willReturn(Optional.of(existing));
+        given(participationRepository.save(org.mockito.ArgumentMatchers.any(ScheduleParticipation.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        participationService.vote(userId, request);
+
+        // then
+        verify(scheduleRepository).adjustParticipationCounts(scheduleId, -1L, 1L, 0L);
+    }
+
+    @Test
+    @DisplayName("첫 투표(이전 상태 없음) → ACCEPTED 는 참여 +1 만")
+    void vote_countDelta_firstVote() {
+        voteFrom(null, ParticipationStatus.ACCEPTED);
+
+        verify(scheduleRepository).adjustParticipationCounts(1L, 1L, 0L, 0L);
+    }
+
+    @Test
+    @DisplayName("INVITED → ACCEPTED 는 참여 +1, 초대 -1")
+    void vote_countDelta_invitedToAccepted() {
+        voteFrom(ParticipationStatus.INVITED, ParticipationStatus.ACCEPTED);
+
+        verify(scheduleRepository).adjustParticipationCounts(1L, 1L, 0L, -1L);
+    }
+
+    @Test
+    @DisplayName("같은 상태로 다시 투표하면 카운터는 그대로")
+    void vote_countDelta_sameStatus() {
+        voteFrom(ParticipationStatus.ACCEPTED, ParticipationStatus.ACCEPTED);
+
+        verify(scheduleRepository, never()).adjustParticipationCounts(anyLong(), anyLong(), anyLong(), anyLong());
+    }
+
+    // 투표 중인 일정(id=1)에 유저(id=10)가 before → after 로 투표
+    private void voteFrom(ParticipationStatus before, ParticipationStatus after) {
+        Long userId = 10L;
+        Long scheduleId = 1L;
+
+        Schedule schedule = Schedule.builder()
+                .id(scheduleId)
+                .title("투표 일정")
+                .status(ScheduleStatus.VOTING)
+                .minParticipants(2)
+                .build();
+        User user = User.builder().id(userId).name("홍길동").build();
+
+        Optional<ScheduleParticipation> existing = before == null
+                ? Optional.empty()
+                : Optional.of(ScheduleParticipation.builder()
+                        .id(100L)
+                        .schedule(schedule)
+                        .user(user)
+                        .status(before)
+                        .build());
+
+        given(scheduleRepository.findById(scheduleId)).willReturn(Optional.of(schedule));
+        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(participationRepository.findForUpdate(scheduleId, userId)).willReturn(existing);
+        given(participationRepository.save(org.mockito.ArgumentMatchers.any(ScheduleParticipation.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        participationService.vote(userId, ParticipationRequestDto.builder()
+                .scheduleId(scheduleId)
+                .status(after)
+                .build());
+    }
+
     @Test
     @DisplayName("내 참여 상태 조회: 존재하면 ParticipationStatusResponseDto로 반환")
     void getMyParticipation_found() {
@@ -190,15 +297,13 @@ class ParticipationServiceImplTest {
     }
 
     @Test
-    @DisplayName("참여 현황 요약: ACCEPTED / DECLINED 인원 수를 반환")
+    @DisplayName("참여 현황 요약: 상태별 인원 수와 그룹 인원 중 미응답 인원(noneCount)을 반환")
     void getParticipationSummary() {
         // given
         Long scheduleId = 1L;
 
-        given(participationRepository.countByScheduleIdAndStatus(scheduleId, ParticipationStatus.ACCEPTED))
-                .willReturn(3L);
-        given(participationRepository.countByScheduleIdAndStatus(scheduleId, ParticipationStatus.DECLINED))
-                .willReturn(1L);
+        given(participationRepository.findSummaryByScheduleId(scheduleId))
+                .willReturn(Optional.of(summaryView(scheduleId, 7L, 3L, 1L, 0L, 10L)));
 
         // when
         ParticipationSummaryDto summary = participationService.getParticipationSummary(scheduleId);
@@ -207,8 +312,20 @@ class ParticipationServiceImplTest {
         assertThat(summary.getScheduleId()).isEqualTo(scheduleId);
         assertThat(summary.getAcceptedCount()).isEqualTo(3L);
         assertThat(summary.getDeclinedCount()).isEqualTo(1L);
-        // noneCount는 지금 0L로 두었으니 그 값도 확인 가능
-        assertThat(summary.getNoneCount()).isEqualTo(0L);
+        // 그룹 인원 10명 - 참여 3명 - 불참 1명
+        assertThat(summary.getNoneCount()).isEqualTo(6L);
+    }
+
+    private ParticipationSummaryView summaryView(Long scheduleId, Long groupId,
+                                                 Long accepted, Long declined, Long invited, Long members) {
+        return new ParticipationSummaryView() {
+            @Override public Long getScheduleId() { return scheduleId; }
+            @Override public Long getGroupId() { return groupId; }
+            @Override public Long getAcceptedCount() { return accepted; }
+            @Override public Long getDeclinedCount() { return declined; }
+            @Override public Long getInvitedCount() { return invited; }
+            @Override public Long getMemberCount() { return members; }
+        };
     }
 
     @Test
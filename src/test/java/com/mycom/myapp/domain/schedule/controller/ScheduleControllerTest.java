@@ -140,6 +140,29 @@ class ScheduleControllerTest {
                 .andExpect(jsonPath("$.length()").value(2));
     }
 
+    @Test
+    @DisplayName("내 달력 조회 API - 기간을 넘기면 개인+그룹 일정을 한 번에 응답한다")
+    void getMyCalendarScheduleList_success() throws Exception {
+        Long currentUserId = 1L;
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 2, 1, 0, 0);
+
+        List<ScheduleResponseDto> list = List.of(
+                ScheduleResponseDto.builder().id(1L).title("개인 일정").build(),
+                ScheduleResponseDto.builder().id(2L).title("그룹 일정").groupId(10L).build()
+        );
+        given(scheduleService.getMyCalendarScheduleList(currentUserId, from, to)).willReturn(list);
+
+        mockMvc.perform(get("/my-schedules")
+                        .param("currentUserId", "1")
+                        .param("from", "2025-01-01T00:00:00")
+                        .param("to", "2025-02-01T00:00:00"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].groupId").value(10));
+    }
+
     @Test
     @DisplayName("그룹 일정 수정 API - 유효한 요청이면 200과 id를 응답한다")
     void updateGroupSchedule_success() throws Exception {
@@ -2,12 +2,16 @@ package com.mycom.myapp.domain.schedule.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,14 +20,19 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 import com.mycom.myapp.domain.participation.entity.ParticipationStatus;
+import com.mycom.myapp.domain.participation.entity.ScheduleParticipation;
 import com.mycom.myapp.domain.participation.repository.ScheduleParticipationRepository;
 import com.mycom.myapp.domain.schedule.dto.ScheduleRequestDto;
 import com.mycom.myapp.domain.schedule.dto.ScheduleResponseDto;
 import com.mycom.myapp.domain.schedule.entity.Schedule;
 import com.mycom.myapp.domain.schedule.entity.ScheduleStatus;
 import com.mycom.myapp.domain.schedule.repository.ScheduleRepository;
+import com.mycom.myapp.domain.schedule_extras.service.AttachmentBlobService;
+import com.mycom.myapp.domain.user.entity.User;
+import com.mycom.myapp.domain.user.repository.UserRepository;
 
 @ExtendWith(MockitoExtension.class)
 class ScheduleServiceImplTest {
@@ -34,6 +43,12 @@ class ScheduleServiceImplTest {
     @Mock
     ScheduleParticipationRepository participationRepository;
 
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    AttachmentBlobService attachmentBlobService;
+
     @InjectMocks
     ScheduleServiceImpl scheduleService;
 
@@ -128,6 +143,115 @@ class ScheduleServiceImplTest {
         assertThat(captured.getVoteDeadlineAt()).isNull();
     }
 
+    @Test
+    @DisplayName("일정 생성 시 참여자는 한 번에 조회되고 owner/중복 id 는 제외된다")
+    void createSchedule_resolvesParticipantsInOneQuery() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        User owner = User.builder().id(1L).name("owner").build();
+        User u2 = User.builder().id(2L).name("u2").build();
+        User u3 = User.builder().id(3L).name("u3").build();
+
+        ScheduleRequestDto dto = ScheduleRequestDto.builder()
+                .title("회식")
+                .ownerId(1L)
+                .startAt(now.plusDays(1))
+                .endAt(now.plusDays(1).plusHours(2))
+                .participantUsersIds(List.of(2L, 1L, 3L, 2L))
+                .build();
+
+        given(userRepository.findById(1L)).willReturn(Optional.of(owner));
+        given(userRepository.findAllById(any())).willReturn(List.of(u3, u2));
+        given(scheduleRepository.save(any(Schedule.class))).willAnswer(inv -> inv.getArgument(0));
+
+        // when
+        scheduleService.createSchedule(dto);
+
+        // then
+        ArgumentCaptor<Schedule> captor = ArgumentCaptor.forClass(Schedule.class);
+        verify(scheduleRepository).save(captor.capture());
+        assertThat(captor.getValue().getParticipations())
+                .extracting(p -> p.getUser().getId())
+                .containsExactly(1L, 2L, 3L);
+        assertThat(captor.getValue().getAcceptedCount()).isEqualTo(3L);
+        verify(userRepository, never()).findById(2L);
+    }
+
+    @Test
+    @DisplayName("일정 생성 시 없는 참여자 id 는 모아서 한 번에 예외로 알려준다")
+    void createSchedule_missingParticipants() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        User owner = User.builder().id(1L).build();
+        User u2 = User.builder().id(2L).build();
+
+        ScheduleRequestDto dto = ScheduleRequestDto.builder()
+                .title("회식")
+                .ownerId(1L)
+                .startAt(now.plusDays(1))
+                .endAt(now.plusDays(1).plusHours(2))
+                .participantUsersIds(List.of(2L, 8L, 9L))
+                .build();
+
+        given(userRepository.findById(1L)).willReturn(Optional.of(owner));
+        given(userRepository.findAllById(any())).willReturn(List.of(u2));
+
+        // when & then
+        assertThatThrownBy(() -> scheduleService.createSchedule(dto))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[8, 9]");
+        verify(scheduleRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("일정 수정 시 참여자는 바뀐 부분만 추가/삭제되고 기존 참여자의 상태는 유지된다")
+    void updateSchedule_diffParticipants() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        User owner = User.builder().id(1L).build();
+        User u2 = User.builder().id(2L).build();
+        User u3 = User.builder().id(3L).build();
+        User u4 = User.builder().id(4L).build();
+
+        Schedule schedule = Schedule.builder()
+                .id(10L)
+                .owner(owner)
+                .status(ScheduleStatus.CONFIRMED)
+                .build();
+        ScheduleParticipation ownerP = participation(owner, ParticipationStatus.ACCEPTED);
+        ScheduleParticipation p2 = participation(u2, ParticipationStatus.DECLINED);
+        ScheduleParticipation p3 = participation(u3, ParticipationStatus.ACCEPTED);
+        schedule.addParticipation(ownerP);
+        schedule.addParticipation(p2);
+        schedule.addParticipation(p3);
+
+        ScheduleRequestDto dto = ScheduleRequestDto.builder()
+                .title("수정")
+                .startAt(now.plusDays(1))
+                .endAt(now.plusDays(1).plusHours(1))
+                .participantUsersIds(List.of(2L, 4L))
+                .build();
+
+        given(scheduleRepository.findById(10L)).willReturn(Optional.of(schedule));
+        given(userRepository.findAllById(Set.of(4L))).willReturn(List.of(u4));
+
+        // when
+        scheduleService.updateSchedule(10L, dto);
+
+        // then
+        assertThat(schedule.getParticipations())
+                .extracting(p -> p.getUser().getId())
+                .containsExactly(1L, 2L, 4L);
+        assertThat(schedule.getParticipations()).contains(ownerP, p2); // 기존 엔티티 그대로
+        assertThat(p2.getStatus()).isEqualTo(ParticipationStatus.DECLINED);
+        verify(scheduleRepository).recountParticipationCounts(10L); // 카운터는 DB 에서 재계산
+        verify(userRepository).findAllById(Set.of(4L)); // 새 참여자만 조회
+    }
+
+    private ScheduleParticipation participation(User user, ParticipationStatus status) {
+        return ScheduleParticipation.builder().user(user).status(status).build();
+    }
+
     @Test
     @DisplayName("일정 단건 조회가 존재하면 DTO로 반환된다")
     void getScheduleDetail_found() {
@@ -139,7 +263,7 @@ class ScheduleServiceImplTest {
                 .status(ScheduleStatus.CONFIRMED)
                 .build();
 
-        given(scheduleRepository.findById(scheduleId)).willReturn(Optional.of(schedule));
+        given(scheduleRepository.findDetailById(scheduleId)).willReturn(Optional.of(schedule));
 
         // when
         ScheduleResponseDto result = scheduleService.getScheduleDetail(scheduleId);
@@ -154,7 +278,7 @@ class ScheduleServiceImplTest {
     void getScheduleDetail_notFound() {
         // given
         Long scheduleId = 999L;
-        given(scheduleRepository.findById(scheduleId)).willReturn(Optional.empty());
+        given(scheduleRepository.findDetailById(scheduleId)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> scheduleService.getScheduleDetail(scheduleId))
@@ -172,11 +296,10 @@ class ScheduleServiceImplTest {
                 .title("투표 일정")
                 .status(ScheduleStatus.VOTING)
                 .minParticipants(2)
+                .acceptedCount(3L) // 참여 인원 3명
                 .build();
 
         given(scheduleRepository.findById(scheduleId)).willReturn(Optional.of(schedule));
-        given(participationRepository.countByScheduleIdAndStatus(scheduleId, ParticipationStatus.ACCEPTED))
-                .willReturn(3L); // 참여 인원 3명
 
         // when
         scheduleService.closeVoting(scheduleId);
@@ -195,11 +318,10 @@ class ScheduleServiceImplTest {
                 .title("투표 일정")
                 .status(ScheduleStatus.VOTING)
                 .minParticipants(5)
+                .acceptedCount(2L) // 참여 인원 2명
                 .build();
 
         given(scheduleRepository.findById(scheduleId)).willReturn(Optional.of(schedule));
-        given(participationRepository.countByScheduleIdAndStatus(scheduleId, ParticipationStatus.ACCEPTED))
-                .willReturn(2L); // 참여 인원 2명
 
         // when
         scheduleService.closeVoting(scheduleId);
@@ -208,6 +330,56 @@ class ScheduleServiceImplTest {
         assertThat(schedule.getStatus()).isEqualTo(ScheduleStatus.CANCELED);
     }
 
+    @Test
+    @DisplayName("마감된 투표 일괄 종료 시 일정별 참여 인원으로 CONFIRMED/CANCELED 가 결정된다")
+    void closeExpiredVotings() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Schedule enough = Schedule.builder()
+                .id(1L)
+                .status(ScheduleStatus.VOTING)
+                .minParticipants(2)
+                .acceptedCount(3L)
+                .voteDeadlineAt(now.minusHours(1))
+                .build();
+        Schedule notEnough = Schedule.builder()
+                .id(2L)
+                .status(ScheduleStatus.VOTING)
+                .minParticipants(2)
+                .acceptedCount(0L)
+                .voteDeadlineAt(now.minusHours(2))
+                .build();
+
+        given(scheduleRepository.findExpiredVotings(eq(ScheduleStatus.VOTING), eq(now), any(Pageable.class)))
+                .willReturn(List.of(enough, notEnough));
+
+        // when
+        int closed = scheduleService.closeExpiredVotings(now, 100);
+
+        // then
+        assertThat(closed).isEqualTo(2);
+        assertThat(enough.getStatus()).isEqualTo(ScheduleStatus.CONFIRMED);
+        assertThat(notEnough.getStatus()).isEqualTo(ScheduleStatus.CANCELED);
+    }
+
+    @Test
+    @DisplayName("closeVoting은 참여 카운터 백필 전(null) 일정이면 결과를 정하지 않고 예외를 던진다")
+    void closeVoting_counterNotBackfilled() {
+        // given
+        Schedule legacy = Schedule.builder()
+                .id(3L)
+                .status(ScheduleStatus.VOTING)
+                .minParticipants(2)
+                .acceptedCount(null)
+                .build();
+        given(scheduleRepository.findById(3L)).willReturn(Optional.of(legacy));
+
+        // when & then
+        assertThatThrownBy(() -> scheduleService.closeVoting(3L))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(legacy.getStatus()).isEqualTo(ScheduleStatus.VOTING);
+    }
+
     @Test
     @DisplayName("closeVoting은 투표 상태가 아닌 일정이면 예외를 던진다")
     void closeVoting_notVoting() {
@@ -228,7 +400,43 @@ class ScheduleServiceImplTest {
     }
 
     @Test
-    @DisplayName("일정 삭제는 repository.deleteById를 호출한다")
+    @DisplayName("그룹 일정 기간 조회는 기간 쿼리로 겹치는 일정만 반환한다")
+    void getGroupScheduleList_withRange() {
+        // given
+        Long groupId = 1L;
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 2, 1, 0, 0);
+
+        Schedule schedule = Schedule.builder()
+                .id(10L)
+                .title("1월 일정")
+                .startAt(from.plusDays(3))
+                .endAt(from.plusDays(3).plusHours(2))
+                .status(ScheduleStatus.CONFIRMED)
+                .build();
+
+        given(scheduleRepository.findGroupSchedulesInRange(groupId, from, to)).willReturn(List.of(schedule));
+
+        // when
+        List<ScheduleResponseDto> result = scheduleService.getGroupScheduleList(groupId, from, to);
+
+        // then
+        assertThat(result).extracting(ScheduleResponseDto::getId).containsExactly(10L);
+        verify(scheduleRepository, never()).findByGroup_Id(groupId);
+    }
+
+    @Test
+    @DisplayName("기간 조회 시 from 이 to 보다 늦으면 예외가 발생한다")
+    void getPersonalScheduleList_invalidRange() {
+        LocalDateTime from = LocalDateTime.of(2025, 2, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        assertThatThrownBy(() -> scheduleService.getPersonalScheduleList(1L, from, to))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("일정 삭제는 첨부 저장소 파일 참조를 해제하고 repository.deleteById를 호출한다")
     void deleteSchedule() {
         // given
         Long scheduleId = 1L;
@@ -237,6 +445,7 @@ class ScheduleServiceImplTest {
         scheduleService.deleteSchedule(scheduleId);
 
         // then
+        verify(attachmentBlobService).releaseBySchedule(scheduleId);
         verify(scheduleRepository).deleteById(scheduleId);
     }
 }
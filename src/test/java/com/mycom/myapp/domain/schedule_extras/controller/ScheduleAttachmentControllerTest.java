@@ -0,0 +1,158 @@
+package com.mycom.myapp.domain.schedule_extras.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.mycom.myapp.domain.schedule_extras.dto.AttachmentDownload;
+import com.mycom.myapp.domain.schedule_extras.service.AttachmentUploadSessionService;
+import com.mycom.myapp.domain.schedule_extras.service.MultipartAttachmentUploader;
+import com.mycom.myapp.domain.schedule_extras.service.ScheduleAttachmentService;
+
+@ExtendWith(SpringExtension.class)
+@AutoConfigureMockMvc(addFilters = false)
+@WebMvcTest(ScheduleAttachmentController.class)
+class ScheduleAttachmentControllerTest {
+
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.UTF_8);
+    private static final String ETAG = "\"abc\"";
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean
+    ScheduleAttachmentService attachmentService;
+
+    @MockBean
+    AttachmentUploadSessionService uploadSessionService;
+
+    @MockBean
+    MultipartAttachmentUploader multipartUploader;
+
+    AttachmentDownload download;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        download = AttachmentDownload.builder()
+                .attachmentId(10L)
+                .storagePath("a.txt")
+                .fileSize(CONTENT.length)
+                .contentType("text/plain")
+                .originalName("메모.txt")
+                .etag(ETAG)
+                .lastModified(Instant.parse("2025-01-01T00:00:00Z"))
+                .build();
+        given(attachmentService.getDownload(1L, 10L)).willReturn(download);
+
+        // 요청한 구간만 그대로 써 주는 저장소
+        willAnswer(inv -> {
+            long position = inv.getArgument(1);
+            long count = inv.getArgument(2);
+            OutputStream out = inv.getArgument(3);
+            out.write(CONTENT, (int) position, (int) count);
+            return null;
+        }).given(attachmentService).writeContent(eq(download), anyLong(), anyLong(), any(OutputStream.class));
+    }
+
+    @Test
+    @DisplayName("다운로드 API - 전체 파일을 200 과 ETag/Last-Modified/Accept-Ranges 로 응답한다")
+    void download_full() throws Exception {
+        mockMvc.perform(get("/schedules/{scheduleId}/attachments/{attachmentId}/download", 1L, 10L))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, CONTENT.length))
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    @DisplayName("다운로드 API - Range 요청이면 해당 구간만 206 으로 응답한다")
+    void download_range() throws Exception {
+        mockMvc.perform(get("/schedules/{scheduleId}/attachments/{attachmentId}/download", 1L, 10L)
+                        .header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(content().bytes("2345".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("다운로드 API - If-Range 가 다른 ETag 면 Range 를 무시하고 전체 응답한다")
+    void download_ifRangeMismatch_full() throws Exception {
+        mockMvc.perform(get("/schedules/{scheduleId}/attachments/{attachmentId}/download", 1L, 10L)
+                        .header(HttpHeaders.RANGE, "bytes=2-5")
+                        .header(HttpHeaders.IF_RANGE, "\"other\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    @DisplayName("다운로드 API - If-Range 가 같은 ETag 면 Range 구간만 206 으로 응답한다")
+    void download_ifRangeEtagMatch_partial() throws Exception {
+        mockMvc.perform(get("/schedules/{scheduleId}/attachments/{attachmentId}/download", 1L, 10L)
+                        .header(HttpHeaders.RANGE, "bytes=2-5")
+                        .header(HttpHeaders.IF_RANGE, ETAG))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().bytes("2345".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("다운로드 API - If-Range 가 Last-Modified 와 같은 날짜면 206, 날짜 형식이 아니면 전체 응답한다")
+    void download_ifRangeDate() throws Exception {
+        mockMvc.perform(get("/schedules/{scheduleId}/attachments/{attachmentId}/download", 1L, 10L)
+                        .header(HttpHeaders.RANGE, "bytes=2-5")
+                        .header(HttpHeaders.IF_RANGE, "Wed, 01 Jan 2025 00:00:00 GMT"))
+                .andExpect(status().isPartialContent());
+
+        mockMvc.perform(get("/schedules/{scheduleId}/attachments/{attachmentId}/download", 1L, 10L)
+                        .header(HttpHeaders.RANGE, "bytes=2-5")
+                        .header(HttpHeaders.IF_RANGE, "not-a-date"))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    @DisplayName("다운로드 API - 파일 범위 밖 Range 는 416")
+    void download_unsatisfiableRange() throws Exception {
+        mockMvc.perform(get("/schedules/{scheduleId}/attachments/{attachmentId}/download", 1L, 10L)
+                        .header(HttpHeaders.RANGE, "bytes=100-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+
+        verify(attachmentService, never()).writeContent(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("다운로드 API - If-None-Match 가 ETag 와 같으면 본문 없이 304")
+    void download_notModified() throws Exception {
+        mockMvc.perform(get("/schedules/{scheduleId}/attachments/{attachmentId}/download", 1L, 10L)
+                        .header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andExpect(status().isNotModified());
+
+        verify(attachmentService, never()).writeContent(any(), anyLong(), anyLong(), any());
+    }
+}
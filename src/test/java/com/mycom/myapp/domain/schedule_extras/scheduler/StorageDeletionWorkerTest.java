@@ -0,0 +1,49 @@
+package com.mycom.myapp.domain.schedule_extras.scheduler;
+
+import com.mycom.myapp.common.config.storage.StorageService;
+import com.mycom.myapp.domain.schedule_extras.entity.StorageDeletion;
+import com.mycom.myapp.domain.schedule_extras.service.StorageDeletionOutbox;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+
+@ExtendWith(MockitoExtension.class)
+class StorageDeletionWorkerTest {
+
+    @Mock StorageDeletionOutbox outbox;
+    @Mock StorageService storageService;
+
+    @InjectMocks
+    StorageDeletionWorker worker;
+
+    @Test
+    @DisplayName("drainBatch - 성공한 항목은 완료 처리, 실패한 항목은 재시도로 기록")
+    void drainBatch_completesSuccessAndRecordsFailure() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+        StorageDeletion ok = StorageDeletion.builder().id(1L).storagePath("a.png").nextAttemptAt(now).createdAt(now).build();
+        StorageDeletion broken = StorageDeletion.builder().id(2L).storagePath("b.png").nextAttemptAt(now).createdAt(now).build();
+
+        given(outbox.claim(eq(now), anyInt())).willReturn(List.of(ok, broken));
+        willThrow(new IllegalStateException("timeout")).given(storageService).deleteFile("b.png");
+
+        int claimed = worker.drainBatch(now);
+
+        assertThat(claimed).isEqualTo(2);
+        then(storageService).should().deleteFile("a.png");
+        then(outbox).should().fail(2L, "timeout", now);
+        then(outbox).should().complete(List.of(1L));
+    }
+}
@@ -0,0 +1,88 @@
+package com.mycom.myapp.domain.schedule_extras.scheduler;
+
+import com.mycom.myapp.domain.schedule_extras.entity.ScheduleAttachment;
+import com.mycom.myapp.domain.schedule_extras.entity.enums.FileType;
+import com.mycom.myapp.domain.schedule_extras.entity.enums.ThumbnailStatus;
+import com.mycom.myapp.domain.schedule_extras.service.ThumbnailGenerator;
+import com.mycom.myapp.domain.schedule_extras.service.ThumbnailService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class ThumbnailWorkerTest {
+
+    @Mock ThumbnailService thumbnailService;
+    @Mock ThumbnailGenerator thumbnailGenerator;
+
+    @InjectMocks
+    ThumbnailWorker worker;
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Test
+    @DisplayName("processBatch - 선점한 첨부만 처리, 생성 성공은 complete / 디코딩 불가는 fail")
+    void processBatch_completesAndFails() throws Exception {
+        ScheduleAttachment ok = attachment(1L, "gs://bucket/ok.png");
+        ScheduleAttachment broken = attachment(2L, "gs://bucket/broken.png");
+        byte[] thumbnail = {1, 2, 3};
+        given(thumbnailService.claim(eq(NOW), anyInt())).willReturn(List.of(ok, broken));
+        given(thumbnailGenerator.generate("gs://bucket/ok.png", 3L)).willReturn(Optional.of(thumbnail));
+        given(thumbnailGenerator.generate("gs://bucket/broken.png", 3L)).willReturn(Optional.empty());
+
+        int processed = worker.processBatch(NOW);
+
+        assertThat(processed).isEqualTo(2);
+        then(thumbnailService).should().complete(1L, thumbnail);
+        then(thumbnailService).should().fail(2L);
+        then(thumbnailService).should(never()).fail(1L);
+    }
+
+    @Test
+    @DisplayName("processBatch - 저장 중 예외가 나면 FAILED 로 기록하고 다음 첨부 계속 처리")
+    void processBatch_completeThrows_marksFailedAndContinues() throws Exception {
+        ScheduleAttachment first = attachment(1L, "gs://bucket/a.png");
+        ScheduleAttachment second = attachment(2L, "gs://bucket/b.png");
+        byte[] thumbnail = {1, 2, 3};
+        given(thumbnailService.claim(eq(NOW), anyInt())).willReturn(List.of(first, second));
+        given(thumbnailGenerator.generate(any(), anyLong())).willReturn(Optional.of(thumbnail));
+        willThrow(new IOException("upload failed"))
+                .given(thumbnailService).complete(1L, thumbnail);
+
+        int processed = worker.processBatch(NOW);
+
+        assertThat(processed).isEqualTo(2);
+        then(thumbnailService).should().fail(1L);
+        then(thumbnailService).should().complete(2L, thumbnail);
+        then(thumbnailService).should(never()).fail(2L);
+    }
+
+    private ScheduleAttachment attachment(Long id, String gcsPath) {
+        return ScheduleAttachment.builder()
+                .id(id)
+                .fileType(FileType.IMAGE)
+                .fileUrl("https://x/" + id)
+                .gcsPath(gcsPath)
+                .fileSize(3L)
+                .thumbnailStatus(ThumbnailStatus.PROCESSING)
+                .build();
+    }
+}
@@ -0,0 +1,134 @@
+package com.mycom.myapp.domain.schedule_extras.service;
+
+import com.mycom.myapp.common.config.storage.StorageService;
+import com.mycom.myapp.domain.schedule_extras.entity.StoredBlob;
+import com.mycom.myapp.domain.schedule_extras.repository.ScheduleAttachmentRepository;
+import com.mycom.myapp.domain.schedule_extras.repository.StoredBlobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class AttachmentBlobServiceTest {
+
+    @Mock StoredBlobRepository storedBlobRepository;
+    @Mock ScheduleAttachmentRepository attachmentRepository;
+    @Mock StorageService storageService;
+    @Mock StorageDeletionOutbox storageDeletionOutbox;
+
+    SimpleMeterRegistry meterRegistry;
+    AttachmentBlobService attachmentBlobService;
+
+    private static final String DIGEST = "a".repeat(64);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        attachmentBlobService = new AttachmentBlobService(
+                storedBlobRepository, attachmentRepository, storageService, storageDeletionOutbox, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("sha256Hex - 내용의 SHA-256 hex")
+    void sha256Hex() throws Exception {
+        String hex = AttachmentBlobService.sha256Hex(
+                new ByteArrayInputStream("abc".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(hex).isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+    }
+
+    @Test
+    @DisplayName("acquire - 같은 내용이 이미 있으면 업로드 없이 참조 수만 증가")
+    void acquire_existing_skipsUpload() throws Exception {
+        StoredBlob existing = blob("gs://bucket/existing.png");
+        given(storedBlobRepository.incrementRefCount(DIGEST)).willReturn(1);
+        given(storedBlobRepository.findByDigest(DIGEST)).willReturn(Optional.of(existing));
+
+        StoredBlob result = attachmentBlobService.acquire(DIGEST, 3L, "image/png", "a.png",
+                () -> { throw new AssertionError("업로드하면 안 됨"); });
+
+        assertThat(result).isSameAs(existing);
+        then(storageService).shouldHaveNoInteractions();
+        assertThat(meterRegistry.get("attachment.upload.dedup").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("acquire - 새 내용이면 digest 키로 업로드 후 등록")
+    void acquire_new_uploadsUnderDigestKey() throws Exception {
+        given(storedBlobRepository.incrementRefCount(DIGEST)).willReturn(0);
+        given(storageService.uploadFile(startsWith(DIGEST + "_"), any(), eq("image/png")))
+                .willReturn("gs://bucket/new.png");
+        given(storageService.getPublicUrl(startsWith(DIGEST + "_"))).willReturn("https://x/new.png");
+        given(storedBlobRepository.findByDigest(DIGEST)).willReturn(Optional.of(blob("gs://bucket/new.png")));
+
+        StoredBlob result = attachmentBlobService.acquire(DIGEST, 3L, "image/png", "a.PNG",
+                () -> new ByteArrayInputStream(new byte[3]));
+
+        assertThat(result.getStoragePath()).isEqualTo("gs://bucket/new.png");
+        then(storageService).should().uploadFile(endsWith(".png"), any(), eq("image/png"));
+        then(storedBlobRepository).should().insertOrIncrement(eq(DIGEST), eq("gs://bucket/new.png"),
+                eq("https://x/new.png"), eq(3L), any());
+        then(storageDeletionOutbox).should(never()).enqueue(any());
+        assertThat(meterRegistry.get("attachment.upload.dedup").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("acquire - 동시에 같은 내용이 먼저 등록됐으면 방금 올린 파일은 삭제 요청")
+    void acquire_lostRace_enqueuesOwnUpload() throws Exception {
+        given(storedBlobRepository.incrementRefCount(DIGEST)).willReturn(0);
+        given(storageService.uploadFile(anyString(), any(), anyString())).willReturn("gs://bucket/mine.png");
+        given(storedBlobRepository.findByDigest(DIGEST)).willReturn(Optional.of(blob("gs://bucket/theirs.png")));
+
+        StoredBlob result = attachmentBlobService.acquire(DIGEST, 3L, "image/png", "a.png",
+                () -> new ByteArrayInputStream(new byte[3]));
+
+        assertThat(result.getStoragePath()).isEqualTo("gs://bucket/theirs.png");
+        then(storageDeletionOutbox).should().enqueue("gs://bucket/mine.png");
+    }
+
+    @Test
+    @DisplayName("release - 마지막 참조일 때만 저장소 파일 삭제 요청")
+    void release_onlyLastReferenceDeletes() {
+        given(storedBlobRepository.deleteIfUnreferenced(DIGEST)).willReturn(0, 1);
+
+        attachmentBlobService.release(DIGEST, "gs://bucket/a.png");
+        then(storageDeletionOutbox).should(never()).enqueue(any());
+
+        attachmentBlobService.release(DIGEST, "gs://bucket/a.png");
+        then(storageDeletionOutbox).should().enqueue("gs://bucket/a.png");
+        then(storedBlobRepository).should(times(2)).decrementRefCount(DIGEST);
+    }
+
+    @Test
+    @DisplayName("release - 중복 제거 이전 첨부(해시 없음)는 바로 삭제 요청")
+    void release_legacyAttachment() {
+        attachmentBlobService.release(null, "gs://bucket/old.png");
+
+        then(storageDeletionOutbox).should().enqueue("gs://bucket/old.png");
+        then(storedBlobRepository).shouldHaveNoInteractions();
+    }
+
+    private StoredBlob blob(String storagePath) {
+        return StoredBlob.builder()
+                .digest(DIGEST)
+                .storagePath(storagePath)
+                .publicUrl("https://x/" + storagePath)
+                .refCount(1)
+                .build();
+    }
+}
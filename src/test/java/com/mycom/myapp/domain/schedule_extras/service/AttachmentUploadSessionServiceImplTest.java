@@ -0,0 +1,168 @@
+package com.mycom.myapp.domain.schedule_extras.service;
+
+import com.mycom.myapp.domain.schedule.repository.ScheduleRepository;
+import com.mycom.myapp.domain.schedule_extras.dto.AttachmentResponseDto;
+import com.mycom.myapp.domain.schedule_extras.dto.UploadSessionInitRequest;
+import com.mycom.myapp.domain.schedule_extras.dto.UploadSessionResponse;
+import com.mycom.myapp.domain.schedule_extras.entity.UploadSession;
+import com.mycom.myapp.domain.schedule_extras.entity.enums.FileType;
+import com.mycom.myapp.domain.schedule_extras.exception.UploadOffsetMismatchException;
+import com.mycom.myapp.domain.schedule_extras.repository.UploadSessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class AttachmentUploadSessionServiceImplTest {
+
+    @Mock UploadSessionRepository uploadSessionRepository;
+    @Mock ScheduleRepository scheduleRepository;
+    @Mock ScheduleAttachmentService attachmentService;
+    @Mock UploadSessionFinalizer finalizer;
+
+    @TempDir
+    Path tempDir;
+
+    AttachmentUploadSessionServiceImpl uploadSessionService;
+
+    private static final Long SCHEDULE_ID = 1L;
+    private static final Long USER_ID = 2L;
+    // "abc" 의 SHA-256
+    private static final String ABC_DIGEST = "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+
+    @BeforeEach
+    void setUp() throws Exception {
+        uploadSessionService = new AttachmentUploadSessionServiceImpl(
+                uploadSessionRepository, scheduleRepository, attachmentService, finalizer,
+                tempDir.toString(), 100L, 4L, 24L);
+    }
+
+    @Test
+    @DisplayName("청크 두 개를 이어 붙인 뒤 complete → 먼저 올린 파일과 전체 내용의 digest/크기로 첨부 생성, 임시 파일 삭제")
+    void init_append_complete() throws Exception {
+        UploadSession session = init(3L);
+        String uploadId = session.getId();
+
+        UploadSessionResponse first = uploadSessionService.appendChunk(SCHEDULE_ID, uploadId, USER_ID, 0, bytes("ab"));
+        UploadSessionResponse second = uploadSessionService.appendChunk(SCHEDULE_ID, uploadId, USER_ID, 2, bytes("c"));
+
+        assertThat(first.getOffset()).isEqualTo(2);
+        assertThat(second.getOffset()).isEqualTo(3);
+
+        AttachmentBlobService.UploadedContent uploaded =
+                new AttachmentBlobService.UploadedContent("gs://bucket/abc.txt", "https://x/abc.txt");
+        AttachmentResponseDto dto = AttachmentResponseDto.builder().id(10L).build();
+        given(finalizer.claim(eq(SCHEDULE_ID), eq(uploadId), eq(USER_ID), any())).willReturn(session);
+        given(attachmentService.preUpload(eq(ABC_DIGEST), eq("a.txt"), eq("text/plain"), any()))
+                .willReturn(Optional.of(uploaded));
+        given(finalizer.finish(eq(session), eq(3L), eq(ABC_DIGEST), eq(uploaded), any())).willReturn(dto);
+
+        AttachmentResponseDto result = uploadSessionService.complete(SCHEDULE_ID, uploadId, USER_ID);
+
+        assertThat(result).isSameAs(dto);
+        then(finalizer).should(never()).release(any(), any());
+        assertThat(tempDir.resolve(uploadId + ".part")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("offset 이 받은 바이트 수와 다르면 현재 offset 과 함께 거절")
+    void appendChunk_offsetMismatch() throws Exception {
+        UploadSession session = init(3L);
+        uploadSessionService.appendChunk(SCHEDULE_ID, session.getId(), USER_ID, 0, bytes("ab"));
+
+        assertThatThrownBy(() ->
+                uploadSessionService.appendChunk(SCHEDULE_ID, session.getId(), USER_ID, 0, bytes("ab")))
+                .isInstanceOf(UploadOffsetMismatchException.class)
+                .extracting("currentOffset").isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("청크가 남은 크기/최대 청크 크기를 넘으면 거절하고 받은 내용은 그대로 유지")
+    void appendChunk_tooLarge_rollsBackChunk() throws Exception {
+        UploadSession session = init(3L);
+        uploadSessionService.appendChunk(SCHEDULE_ID, session.getId(), USER_ID, 0, bytes("ab"));
+
+        assertThatThrownBy(() ->
+                uploadSessionService.appendChunk(SCHEDULE_ID, session.getId(), USER_ID, 2, bytes("cd")))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(Files.readString(tempDir.resolve(session.getId() + ".part"))).isEqualTo("ab");
+    }
+
+    @Test
+    @DisplayName("모든 청크를 받기 전 complete 는 거절")
+    void complete_incomplete() throws Exception {
+        UploadSession session = init(3L);
+        uploadSessionService.appendChunk(SCHEDULE_ID, session.getId(), USER_ID, 0, bytes("ab"));
+
+        given(finalizer.claim(eq(SCHEDULE_ID), eq(session.getId()), eq(USER_ID), any())).willReturn(session);
+
+        assertThatThrownBy(() -> uploadSessionService.complete(SCHEDULE_ID, session.getId(), USER_ID))
+                .isInstanceOf(UploadOffsetMismatchException.class);
+        then(attachmentService).shouldHaveNoInteractions();
+        then(finalizer).should().release(session.getId(), null); // 선점 해제 → 나머지 청크 후 재시도 가능
+    }
+
+    @Test
+    @DisplayName("첨부 생성이 실패하면 선점을 풀고 먼저 올린 파일은 삭제 요청, 임시 파일은 남김")
+    void complete_finishFails_releases() throws Exception {
+        UploadSession session = init(3L);
+        uploadSessionService.appendChunk(SCHEDULE_ID, session.getId(), USER_ID, 0, bytes("abc"));
+
+        AttachmentBlobService.UploadedContent uploaded =
+                new AttachmentBlobService.UploadedContent("gs://bucket/abc.txt", "https://x/abc.txt");
+        given(finalizer.claim(eq(SCHEDULE_ID), eq(session.getId()), eq(USER_ID), any())).willReturn(session);
+        given(attachmentService.preUpload(any(), any(), any(), any())).willReturn(Optional.of(uploaded));
+        given(finalizer.finish(any(), anyLong(), any(), any(), any()))
+                .willThrow(new IllegalArgumentException("일정을 찾을 수 없습니다."));
+
+        assertThatThrownBy(() -> uploadSessionService.complete(SCHEDULE_ID, session.getId(), USER_ID))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        then(finalizer).should().release(session.getId(), uploaded);
+        assertThat(tempDir.resolve(session.getId() + ".part")).exists();
+    }
+
+    private UploadSession init(long totalSize) {
+        given(scheduleRepository.existsById(SCHEDULE_ID)).willReturn(true);
+        UploadSessionInitRequest request = UploadSessionInitRequest.builder()
+                .fileName("a.txt")
+                .fileType("FILE")
+                .contentType("text/plain")
+                .totalSize(totalSize)
+                .build();
+
+        uploadSessionService.init(SCHEDULE_ID, USER_ID, FileType.FILE, request);
+
+        ArgumentCaptor<UploadSession> captor = ArgumentCaptor.forClass(UploadSession.class);
+        then(uploadSessionRepository).should().save(captor.capture());
+        UploadSession session = captor.getValue();
+        given(uploadSessionRepository.findByIdAndScheduleIdAndUserId(session.getId(), SCHEDULE_ID, USER_ID))
+                .willReturn(Optional.of(session));
+        return session;
+    }
+
+    private static ByteArrayInputStream bytes(String s) {
+        return new ByteArrayInputStream(s.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,95 @@
+package com.mycom.myapp.domain.schedule_extras.service;
+
+import com.mycom.myapp.domain.schedule.repository.ScheduleRepository;
+import com.mycom.myapp.domain.schedule_extras.dto.AttachmentRequestDto;
+import com.mycom.myapp.domain.schedule_extras.dto.AttachmentResponseDto;
+import com.mycom.myapp.domain.schedule_extras.entity.enums.FileType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class MultipartAttachmentUploaderTest {
+
+    @Mock ScheduleRepository scheduleRepository;
+    @Mock ScheduleAttachmentService attachmentService;
+
+    @InjectMocks
+    MultipartAttachmentUploader uploader;
+
+    // "abc" 의 SHA-256
+    private static final String ABC_DIGEST = "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+
+    private final AttachmentBlobService.UploadedContent uploaded =
+            new AttachmentBlobService.UploadedContent("gs://bucket/abc.png", "https://x/abc.png");
+
+    @Test
+    @DisplayName("upload - 트랜잭션 밖에서 먼저 올린 뒤 completeUpload 로 등록")
+    void upload_preUploadThenComplete() throws Exception {
+        AttachmentResponseDto dto = AttachmentResponseDto.builder().id(10L).build();
+        given(scheduleRepository.existsById(1L)).willReturn(true);
+        given(attachmentService.preUpload(eq(ABC_DIGEST), eq("a.png"), eq("image/png"), any()))
+                .willReturn(Optional.of(uploaded));
+        given(attachmentService.completeUpload(eq(1L), eq(2L), eq(FileType.IMAGE), eq("a.png"), eq("image/png"),
+                eq(3L), eq(ABC_DIGEST), eq(uploaded), any()))
+                .willReturn(dto);
+
+        AttachmentResponseDto result = uploader.upload(1L, 2L, request("abc"));
+
+        assertThat(result).isSameAs(dto);
+        InOrder order = inOrder(attachmentService);
+        order.verify(attachmentService).preUpload(any(), any(), any(), any());
+        order.verify(attachmentService).completeUpload(any(), any(), any(), any(), any(), anyLong(), any(), any(), any());
+        then(attachmentService).should(never()).discardUpload(any());
+    }
+
+    @Test
+    @DisplayName("upload - 첨부 생성이 실패하면 먼저 올린 파일은 삭제 요청")
+    void upload_completeFails_discardsUpload() throws Exception {
+        given(scheduleRepository.existsById(1L)).willReturn(true);
+        given(attachmentService.preUpload(any(), any(), any(), any())).willReturn(Optional.of(uploaded));
+        given(attachmentService.completeUpload(any(), any(), any(), any(), any(), anyLong(), any(), any(), any()))
+                .willThrow(new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+
+        assertThatThrownBy(() -> uploader.upload(1L, 2L, request("abc")))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        then(attachmentService).should().discardUpload(uploaded);
+    }
+
+    @Test
+    @DisplayName("upload - 없는 일정이면 저장소에 올리지 않고 거절")
+    void upload_scheduleNotFound_throw() throws Exception {
+        given(scheduleRepository.existsById(1L)).willReturn(false);
+
+        assertThatThrownBy(() -> uploader.upload(1L, 2L, request("abc")))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        then(attachmentService).shouldHaveNoInteractions();
+    }
+
+    private static AttachmentRequestDto request(String content) {
+        return AttachmentRequestDto.builder()
+                .file(new MockMultipartFile("file", "a.png", "image/png", content.getBytes(StandardCharsets.UTF_8)))
+                .fileType(FileType.IMAGE)
+                .build();
+    }
+}
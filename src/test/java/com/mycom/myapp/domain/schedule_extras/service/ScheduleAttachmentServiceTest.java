@@ -1,24 +1,25 @@
 package com.mycom.myapp.domain.schedule_extras.service;
 
-import com.mycom.myapp.common.config.storage.GcpStorageService;
+import com.mycom.myapp.common.config.storage.StorageService;
 import com.mycom.myapp.domain.schedule.entity.Schedule;
 import com.mycom.myapp.domain.schedule.repository.ScheduleRepository;
-import com.mycom.myapp.domain.schedule_extras.dto.AttachmentRequestDto;
 import com.mycom.myapp.domain.schedule_extras.dto.AttachmentResponseDto;
 import com.mycom.myapp.domain.schedule_extras.entity.ScheduleAttachment;
+import com.mycom.myapp.domain.schedule_extras.entity.StoredBlob;
 import com.mycom.myapp.domain.schedule_extras.entity.enums.FileType;
+import com.mycom.myapp.domain.schedule_extras.entity.enums.ThumbnailStatus;
 import com.mycom.myapp.domain.schedule_extras.repository.ScheduleAttachmentRepository;
 import com.mycom.myapp.domain.user.entity.User;
 import com.mycom.myapp.domain.user.repository.UserRepository;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.mock.web.MockMultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,7 +27,6 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 public class ScheduleAttachmentServiceTest {
 
-    @InjectMocks
     ScheduleAttachmentServiceImpl attachmentService;
 
     @Mock
@@ -39,7 +39,12 @@ public class ScheduleAttachmentServiceTest {
     UserRepository userRepository;
 
     @Mock
-    GcpStorageService gcpStorageService;
+    AttachmentBlobService attachmentBlobService;
+
+    @Mock
+    StorageService storageService;
+
+    SimpleMeterRegistry meterRegistry;
 
     Schedule schedule;
     User user;
@@ -47,27 +52,31 @@ public class ScheduleAttachmentServiceTest {
     @BeforeEach
     void setup() {
         MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        attachmentService = new ScheduleAttachmentServiceImpl(attachmentRepository, scheduleRepository,
+                userRepository, attachmentBlobService, storageService, meterRegistry);
         schedule = Schedule.builder().id(1L).build();
         user = User.builder().id(1L).build();
     }
 
-    @DisplayName("첨부파일 업로드 성공")
+    @DisplayName("첨부파일 업로드 성공 - 트랜잭션 밖에서 먼저 올린 파일을 등록하고 첨부 생성")
     @Test
-    void testUploadAttachment() {
+    void testUploadAttachment() throws Exception {
         // given
-        MockMultipartFile file = new MockMultipartFile(
-                "file", "test.png", "image/png", "test data".getBytes()
-        );
-
-        AttachmentRequestDto dto = AttachmentRequestDto.builder()
-                .file(file)
-                .fileType(FileType.IMAGE)
-                .build();
+        byte[] content = "test data".getBytes();
+        String digest = AttachmentBlobService.sha256Hex(new ByteArrayInputStream(content));
+        AttachmentBlobService.UploadedContent uploaded = new AttachmentBlobService.UploadedContent(
+                "gs://bucket/test.png", "https://storage.googleapis.com/bucket/test.png");
 
         when(scheduleRepository.findById(1L)).thenReturn(Optional.of(schedule));
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-        when(gcpStorageService.uploadFile(anyString(), any(), anyString()))
-                .thenReturn("gs://bucket/test.png");
+        StoredBlob blob = StoredBlob.builder()
+                .digest(digest)
+                .storagePath("gs://bucket/test.png")
+                .publicUrl("https://storage.googleapis.com/bucket/test.png")
+                .refCount(1)
+                .build();
+        when(attachmentBlobService.register(digest, 9L, uploaded)).thenReturn(blob);
 
         ScheduleAttachment saved = ScheduleAttachment.builder()
                 .id(10L)
@@ -83,13 +92,18 @@ public class ScheduleAttachmentServiceTest {
         when(attachmentRepository.save(any())).thenReturn(saved);
 
         // when
-        AttachmentResponseDto result =
-                attachmentService.uploadAttachment(1L, 1L, dto);
+        AttachmentResponseDto result = attachmentService.completeUpload(1L, 1L, FileType.IMAGE, "test.png",
+                "image/png", content.length, digest, uploaded, () -> new ByteArrayInputStream(content));
 
         // then
         assertThat(result.getId()).isEqualTo(10L);
         assertThat(result.getFileUrl()).contains("gs://");
-        verify(attachmentRepository, times(1)).save(any());
+        verify(attachmentBlobService, never()).acquire(any(), any(), any(), any(), any());
+        verify(attachmentRepository, times(1)).save(argThat(a ->
+                digest.equals(a.getContentHash())
+                        && "gs://bucket/test.png".equals(a.getGcsPath())
+                        && a.getThumbnailStatus() == ThumbnailStatus.PENDING));
+        assertThat(meterRegistry.get("attachment.upload.bytes").summary().totalAmount()).isEqualTo(9.0);
     }
 
     @DisplayName("첨부파일 목록 조회")
@@ -122,7 +136,8 @@ public class ScheduleAttachmentServiceTest {
                 .id(10L)
                 .user(user)
                 .schedule(schedule)
-                .fileUrl("gs://bucket/test.png")
+                .fileUrl("https://storage.googleapis.com/bucket/test.png")
+                .gcsPath("gs://bucket/test.png")
                 .build();
 
         when(attachmentRepository.findById(10L)).thenReturn(Optional.of(attachment));
@@ -130,8 +145,8 @@ public class ScheduleAttachmentServiceTest {
         // when
         attachmentService.deleteAttachment(10L, 1L);
 
-        // then
-        verify(gcpStorageService, times(1)).deleteFile("gs://bucket/test.png");
+        // then - 저장소 파일은 참조 해제 (마지막 참조면 outbox 로 삭제)
+        verify(attachmentBlobService, times(1)).release(null, "gs://bucket/test.png");
         verify(attachmentRepository, times(1)).delete(attachment);
     }
 
@@ -1,7 +1,9 @@
 package com.mycom.myapp.domain.schedule_extras.service;
 
+import com.mycom.myapp.common.dto.CursorResponse;
 import com.mycom.myapp.domain.schedule.entity.Schedule;
 import com.mycom.myapp.domain.schedule.repository.ScheduleRepository;
+import com.mycom.myapp.domain.schedule_extras.dto.CommentCursor;
 import com.mycom.myapp.domain.schedule_extras.dto.ScheduleCommentResponse;
 import com.mycom.myapp.domain.schedule_extras.entity.ScheduleComment;
 import com.mycom.myapp.domain.schedule_extras.repository.ScheduleCommentRepository;
@@ -14,8 +16,10 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.mockito.Mockito.*;
@@ -112,6 +116,52 @@ class ScheduleCommentServiceTest {
         verify(commentRepository, times(1)).findBySchedule_IdOrderByCreatedAtAsc(scheduleId);
     }
 
+    @DisplayName("댓글 커서 조회 시 size 만큼 반환하고 마지막 댓글 기준 다음 커서를 내려준다.")
+    @Test
+    void testGetCommentPage() {
+        // given
+        Long scheduleId = 1L;
+        User user = User.builder().id(2L).name("작성자").build();
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+        List<ScheduleComment> rows = List.of(
+                ScheduleComment.builder().id(1L).schedule(schedule).user(user).content("댓글1").createdAt(base).build(),
+                ScheduleComment.builder().id(2L).schedule(schedule).user(user).content("댓글2").createdAt(base).build(),
+                ScheduleComment.builder().id(3L).schedule(schedule).user(user).content("댓글3").createdAt(base.plusMinutes(1)).build()
+        );
+        when(commentRepository.findFirstPage(eq(scheduleId), any(Pageable.class))).thenReturn(rows);
+
+        // when
+        CursorResponse<ScheduleCommentResponse> first = commentService.getCommentPage(scheduleId, null, 2);
+
+        // then
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(first.isHasNext()).isTrue();
+
+        CommentCursor cursor = CommentCursor.decode(first.getNextCursor());
+        assertThat(cursor.getCreatedAt()).isEqualTo(base);
+        assertThat(cursor.getId()).isEqualTo(2L);
+
+        // 다음 페이지는 (createdAt, id) 이후 조회
+        when(commentRepository.findPageAfter(eq(scheduleId), eq(base), eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(rows.get(2)));
+
+        CursorResponse<ScheduleCommentResponse> second = commentService.getCommentPage(scheduleId, first.getNextCursor(), 2);
+
+        assertThat(second.getContent()).hasSize(1);
+        assertThat(second.getContent().get(0).getUserName()).isEqualTo("작성자");
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @DisplayName("잘못된 커서로 조회하면 예외가 발생한다.")
+    @Test
+    void testGetCommentPageInvalidCursor() {
+        assertThatThrownBy(() -> commentService.getCommentPage(1L, "not-a-cursor", 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("잘못된 커서");
+    }
+
     @DisplayName("댓글 작성자가 요청하면 댓글 내용을 성공적으로 수정할 수 있다.")
     @Test
     void testUpdateCommentSuccess() {
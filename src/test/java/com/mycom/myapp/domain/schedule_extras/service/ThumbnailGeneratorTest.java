@@ -0,0 +1,94 @@
+package com.mycom.myapp.domain.schedule_extras.service;
+
+import com.mycom.myapp.common.config.storage.StorageService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class ThumbnailGeneratorTest {
+
+    private static final long MAX_SOURCE_BYTES = 10 * 1024 * 1024;
+
+    @Mock
+    StorageService storageService;
+
+    @Test
+    @DisplayName("generate - 긴 변을 max-size 로 줄인 JPEG 썸네일")
+    void generate_scalesDown() throws Exception {
+        byte[] png = png(1200, 600);
+        stubStorage("a.png", png);
+
+        Optional<byte[]> thumbnail = new ThumbnailGenerator(storageService, 320, 40_000_000L, MAX_SOURCE_BYTES)
+                .generate("a.png", png.length);
+
+        assertThat(thumbnail).isPresent();
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(thumbnail.get()));
+        assertThat(image.getWidth()).isEqualTo(320);
+        assertThat(image.getHeight()).isEqualTo(160);
+    }
+
+    @Test
+    @DisplayName("generate - 픽셀 수가 한도를 넘는 원본은 디코딩하지 않음")
+    void generate_tooManyPixels_empty() throws Exception {
+        byte[] png = png(100, 100);
+        stubStorage("big.png", png);
+
+        Optional<byte[]> thumbnail = new ThumbnailGenerator(storageService, 320, 9_999L, MAX_SOURCE_BYTES)
+                .generate("big.png", png.length);
+
+        assertThat(thumbnail).isEmpty();
+    }
+
+    @Test
+    @DisplayName("generate - 원본이 max-source-bytes 보다 크면 저장소에서 읽지 않고 empty")
+    void generate_tooManyBytes_skipsRead() throws Exception {
+        Optional<byte[]> thumbnail = new ThumbnailGenerator(storageService, 320, 40_000_000L, 1024L)
+                .generate("huge.png", 200L * 1024 * 1024);
+
+        assertThat(thumbnail).isEmpty();
+        then(storageService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("generate - 이미지가 아니면 empty")
+    void generate_notImage_empty() throws Exception {
+        byte[] text = "not an image".getBytes();
+        stubStorage("a.txt", text);
+
+        Optional<byte[]> thumbnail = new ThumbnailGenerator(storageService, 320, 40_000_000L, MAX_SOURCE_BYTES)
+                .generate("a.txt", text.length);
+
+        assertThat(thumbnail).isEmpty();
+    }
+
+    private void stubStorage(String path, byte[] content) throws Exception {
+        given(storageService.transferTo(eq(path), eq(0L), anyLong(), any())).willAnswer(inv -> {
+            WritableByteChannel target = inv.getArgument(3);
+            return (long) target.write(ByteBuffer.wrap(content));
+        });
+    }
+
+    private byte[] png(int width, int height) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+        return out.toByteArray();
+    }
+}
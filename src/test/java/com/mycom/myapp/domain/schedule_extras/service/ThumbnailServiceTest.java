@@ -0,0 +1,121 @@
+package com.mycom.myapp.domain.schedule_extras.service;
+
+import com.mycom.myapp.domain.schedule_extras.entity.ScheduleAttachment;
+import com.mycom.myapp.domain.schedule_extras.entity.StoredBlob;
+import com.mycom.myapp.domain.schedule_extras.entity.enums.FileType;
+import com.mycom.myapp.domain.schedule_extras.entity.enums.ThumbnailStatus;
+import com.mycom.myapp.domain.schedule_extras.repository.ScheduleAttachmentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class ThumbnailServiceTest {
+
+    @Mock ScheduleAttachmentRepository attachmentRepository;
+    @Mock AttachmentBlobService attachmentBlobService;
+
+    @InjectMocks
+    ThumbnailService thumbnailService;
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+    private static final byte[] THUMBNAIL = "jpeg".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    @DisplayName("claim - 꺼낸 첨부를 PROCESSING 으로 선점")
+    void claim_marksProcessing() {
+        ScheduleAttachment pending = attachment(ThumbnailStatus.PENDING);
+        given(attachmentRepository.findThumbnailTargetsForUpdate(
+                eq(ThumbnailStatus.PENDING), eq(ThumbnailStatus.PROCESSING), eq(NOW), any()))
+                .willReturn(List.of(pending));
+
+        List<ScheduleAttachment> claimed = thumbnailService.claim(NOW, 20);
+
+        assertThat(claimed).containsExactly(pending);
+        assertThat(pending.getThumbnailStatus()).isEqualTo(ThumbnailStatus.PROCESSING);
+        assertThat(pending.getThumbnailLeaseUntil()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("complete - 그 사이 첨부가 삭제됐으면 저장하지 않음")
+    void complete_attachmentDeleted_skip() throws Exception {
+        given(attachmentRepository.findForUpdate(1L)).willReturn(Optional.empty());
+
+        thumbnailService.complete(1L, THUMBNAIL);
+
+        then(attachmentBlobService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("complete - 다른 워커가 이미 끝낸 첨부(PROCESSING 아님)는 참조를 늘리지 않음")
+    void complete_notProcessing_skip() throws Exception {
+        ScheduleAttachment ready = attachment(ThumbnailStatus.READY);
+        given(attachmentRepository.findForUpdate(1L)).willReturn(Optional.of(ready));
+
+        thumbnailService.complete(1L, THUMBNAIL);
+
+        then(attachmentBlobService).shouldHaveNoInteractions();
+        assertThat(ready.getThumbnailStatus()).isEqualTo(ThumbnailStatus.READY);
+    }
+
+    @Test
+    @DisplayName("complete - 썸네일을 저장하고 READY 로 변경, 선점 해제")
+    void complete_success() throws Exception {
+        ScheduleAttachment processing = attachment(ThumbnailStatus.PROCESSING);
+        processing.setThumbnailLeaseUntil(NOW.plusMinutes(5));
+        StoredBlob blob = StoredBlob.builder()
+                .digest("d".repeat(64))
+                .storagePath("gs://bucket/thumb.jpg")
+                .publicUrl("https://x/thumb.jpg")
+                .refCount(1)
+                .build();
+        given(attachmentRepository.findForUpdate(1L)).willReturn(Optional.of(processing));
+        given(attachmentBlobService.acquire(anyString(), eq((long) THUMBNAIL.length), eq("image/jpeg"), anyString(), any()))
+                .willReturn(blob);
+
+        thumbnailService.complete(1L, THUMBNAIL);
+
+        assertThat(processing.getThumbnailStatus()).isEqualTo(ThumbnailStatus.READY);
+        assertThat(processing.getThumbnailPath()).isEqualTo("gs://bucket/thumb.jpg");
+        assertThat(processing.getThumbnailUrl()).isEqualTo("https://x/thumb.jpg");
+        assertThat(processing.getThumbnailHash()).hasSize(64);
+        assertThat(processing.getThumbnailLeaseUntil()).isNull();
+    }
+
+    @Test
+    @DisplayName("fail - 이미 READY 인 첨부는 FAILED 로 덮어쓰지 않음")
+    void fail_ready_keepsReady() {
+        ScheduleAttachment ready = attachment(ThumbnailStatus.READY);
+        given(attachmentRepository.findForUpdate(1L)).willReturn(Optional.of(ready));
+
+        thumbnailService.fail(1L);
+
+        assertThat(ready.getThumbnailStatus()).isEqualTo(ThumbnailStatus.READY);
+    }
+
+    private ScheduleAttachment attachment(ThumbnailStatus status) {
+        return ScheduleAttachment.builder()
+                .id(1L)
+                .fileType(FileType.IMAGE)
+                .fileUrl("https://x/a.png")
+                .gcsPath("gs://bucket/a.png")
+                .fileSize(3L)
+                .thumbnailStatus(status)
+                .build();
+    }
+}
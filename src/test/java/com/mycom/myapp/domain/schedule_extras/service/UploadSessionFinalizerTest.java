@@ -0,0 +1,117 @@
+package com.mycom.myapp.domain.schedule_extras.service;
+
+import com.mycom.myapp.domain.schedule_extras.dto.AttachmentResponseDto;
+import com.mycom.myapp.domain.schedule_extras.entity.UploadSession;
+import com.mycom.myapp.domain.schedule_extras.entity.enums.FileType;
+import com.mycom.myapp.domain.schedule_extras.repository.UploadSessionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class UploadSessionFinalizerTest {
+
+    @Mock UploadSessionRepository uploadSessionRepository;
+    @Mock ScheduleAttachmentService attachmentService;
+    @Mock AttachmentBlobService attachmentBlobService;
+
+    @InjectMocks
+    UploadSessionFinalizer finalizer;
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+    private static final String DIGEST = "a".repeat(64);
+
+    @Test
+    @DisplayName("claim - 잠근 세션에 완료 선점 기록")
+    void claim_marksCompleting() {
+        UploadSession session = session(null);
+        given(uploadSessionRepository.findForUpdate("u1", 1L, 2L)).willReturn(Optional.of(session));
+
+        UploadSession claimed = finalizer.claim(1L, "u1", 2L, NOW);
+
+        assertThat(claimed.getCompletingUntil()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("claim - 다른 요청이 완료 처리 중이면 거절")
+    void claim_alreadyCompleting_throw() {
+        given(uploadSessionRepository.findForUpdate("u1", 1L, 2L))
+                .willReturn(Optional.of(session(NOW.plusMinutes(5))));
+
+        assertThatThrownBy(() -> finalizer.claim(1L, "u1", 2L, NOW))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("finish - 먼저 올린 파일로 첨부 생성 후 세션 삭제")
+    void finish_createsAttachmentAndDeletesSession() throws Exception {
+        UploadSession session = session(NOW.plusMinutes(5));
+        AttachmentBlobService.UploadedContent uploaded =
+                new AttachmentBlobService.UploadedContent("gs://bucket/a.txt", "https://x/a.txt");
+        AttachmentResponseDto dto = AttachmentResponseDto.builder().id(10L).build();
+        given(uploadSessionRepository.findForUpdate("u1", 1L, 2L)).willReturn(Optional.of(session));
+        given(attachmentService.completeUpload(1L, 2L, FileType.FILE, "a.txt", "text/plain", 3L, DIGEST, uploaded, null))
+                .willReturn(dto);
+
+        AttachmentResponseDto result = finalizer.finish(session, 3L, DIGEST, uploaded, null);
+
+        assertThat(result).isSameAs(dto);
+        then(uploadSessionRepository).should().delete(session);
+    }
+
+    @Test
+    @DisplayName("finish - 그 사이 세션이 지워졌으면 첨부를 만들지 않음")
+    void finish_sessionGone_throw() throws Exception {
+        UploadSession session = session(NOW.plusMinutes(5));
+        given(uploadSessionRepository.findForUpdate("u1", 1L, 2L)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> finalizer.finish(session, 3L, DIGEST, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        then(attachmentService).should(never())
+                .completeUpload(any(), any(), any(), any(), any(), anyLong(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("release - 선점 해제 + 등록 못 한 업로드 파일 삭제 요청")
+    void release_clearsClaimAndDiscardsUpload() {
+        UploadSession session = session(NOW.plusMinutes(5));
+        AttachmentBlobService.UploadedContent uploaded =
+                new AttachmentBlobService.UploadedContent("gs://bucket/a.txt", "https://x/a.txt");
+        given(uploadSessionRepository.findById("u1")).willReturn(Optional.of(session));
+
+        finalizer.release("u1", uploaded);
+
+        assertThat(session.getCompletingUntil()).isNull();
+        then(attachmentBlobService).should().discard(uploaded);
+    }
+
+    private UploadSession session(LocalDateTime completingUntil) {
+        return UploadSession.builder()
+                .id("u1")
+                .scheduleId(1L)
+                .userId(2L)
+                .fileType(FileType.FILE)
+                .originalName("a.txt")
+                .contentType("text/plain")
+                .totalSize(3L)
+                .createdAt(NOW.minusHours(1))
+                .expiresAt(NOW.plusHours(23))
+                .completingUntil(completingUntil)
+                .build();
+    }
+}